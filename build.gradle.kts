@@ -35,6 +35,7 @@ dependencies {
     annotationProcessor("org.projectlombok:lombok")
 
     implementation("io.minio:minio:8.5.17")
+    implementation("org.apache.httpcomponents.client5:httpclient5")
     
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
@@ -1,5 +1,6 @@
 package ai.synalix.synalixai.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -43,4 +44,50 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Task executor for outbox deliveries; its pool size is the maximum number of concurrent backend calls
+     */
+    @Bean(name = "taskOutboxExecutor")
+    public Executor taskOutboxExecutor(@Value("${app.task-outbox.parallelism}") int parallelism) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(Integer.MAX_VALUE);
+        executor.setThreadNamePrefix("Outbox-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Task executor for audit log exports; when all workers are busy and the queue is full new exports are
+     * rejected instead of running on the request thread
+     */
+    @Bean(name = "auditExportExecutor")
+    public Executor auditExportExecutor(@Value("${app.audit-export.max-concurrent}") int maxConcurrent,
+                                        @Value("${app.audit-export.queue-capacity}") int queueCapacity) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrent);
+        executor.setMaxPoolSize(maxConcurrent);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("Audit-export-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Task executor for asynchronous MVC responses such as chat completion streams; each stream holds a
+     * thread for its whole duration, so streams beyond the pool size are rejected instead of queued
+     */
+    @Bean(name = "mvcAsyncExecutor")
+    public ThreadPoolTaskExecutor mvcAsyncExecutor(@Value("${app.mvc-async.max-threads}") int maxThreads) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxThreads);
+        executor.setMaxPoolSize(maxThreads);
+        executor.setQueueCapacity(0);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("Mvc-async-");
+        executor.initialize();
+        return executor;
+    }
 }
\ No newline at end of file
@@ -1,20 +1,98 @@
 package ai.synalix.synalixai.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 /**
- * HTTP client configuration
+ * HTTP client configuration.
+ * <p>
+ * Each kind of backend call gets its own RestTemplate over its own keep-alive connection pool, so a
+ * slow class of calls can only exhaust its own pool: status polling, task management and chat never
+ * wait on each other's connections. Pool usage is published as {@code httpcomponents.httpclient.pool.*}
+ * meters tagged with the pool name.
  */
 @Configuration
 public class HttpClientConfig {
 
     /**
-     * RestTemplate bean for external HTTP calls
+     * Backend status polling: task status and GPU status
      */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate backendStatusRestTemplate(
+            MeterRegistry meterRegistry,
+            @Value("${app.backend-client.status.max-connections}") int maxConnections,
+            @Value("${app.backend-client.status.connect-timeout-ms}") long connectTimeoutMs,
+            @Value("${app.backend-client.status.read-timeout-ms}") long readTimeoutMs,
+            @Value("${app.backend-client.acquire-timeout-ms}") long acquireTimeoutMs) {
+        return pooledRestTemplate("backend-status", meterRegistry,
+                maxConnections, connectTimeoutMs, readTimeoutMs, acquireTimeoutMs);
     }
-}
\ No newline at end of file
+
+    /**
+     * Backend task management: submit, cancel, datasets and checkpoints
+     */
+    @Bean
+    public RestTemplate backendTaskRestTemplate(
+            MeterRegistry meterRegistry,
+            @Value("${app.backend-client.task.max-connections}") int maxConnections,
+            @Value("${app.backend-client.task.connect-timeout-ms}") long connectTimeoutMs,
+            @Value("${app.backend-client.task.read-timeout-ms}") long readTimeoutMs,
+            @Value("${app.backend-client.acquire-timeout-ms}") long acquireTimeoutMs) {
+        return pooledRestTemplate("backend-task", meterRegistry,
+                maxConnections, connectTimeoutMs, readTimeoutMs, acquireTimeoutMs);
+    }
+
+    /**
+     * Backend chat completions; the read timeout is the longest allowed gap between streamed tokens
+     */
+    @Bean
+    public RestTemplate backendChatRestTemplate(
+            MeterRegistry meterRegistry,
+            @Value("${app.backend-client.chat.max-connections}") int maxConnections,
+            @Value("${app.backend-client.chat.connect-timeout-ms}") long connectTimeoutMs,
+            @Value("${app.backend-client.chat.read-timeout-ms}") long readTimeoutMs,
+            @Value("${app.backend-client.acquire-timeout-ms}") long acquireTimeoutMs) {
+        return pooledRestTemplate("backend-chat", meterRegistry,
+                maxConnections, connectTimeoutMs, readTimeoutMs, acquireTimeoutMs);
+    }
+
+    private static RestTemplate pooledRestTemplate(String poolName, MeterRegistry meterRegistry, int maxConnections,
+                                                   long connectTimeoutMs, long readTimeoutMs, long acquireTimeoutMs) {
+        var connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                // All calls go to the single backend host, so the route limit is the pool limit
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        var httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // Fail fast when the pool is exhausted instead of queueing request threads
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(acquireTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, poolName).bindTo(meterRegistry);
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+}
@@ -0,0 +1,309 @@
+package ai.synalix.synalixai.config;
+
+import ai.synalix.synalixai.dto.response.ApiErrorResponse;
+import ai.synalix.synalixai.entity.IdempotencyRecord;
+import ai.synalix.synalixai.enums.ApiErrorCode;
+import ai.synalix.synalixai.service.IdempotencyService;
+import ai.synalix.synalixai.util.HashUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Idempotency-Key support for resource creation endpoints.
+ * <p>
+ * A POST carrying an {@code Idempotency-Key} header executes at most once per user and key. A repeat with
+ * the same method, path and body replays the stored response with {@code Idempotency-Replayed: true};
+ * a repeat with a different request is rejected. Requests without the header are unaffected.
+ * <p>
+ * Request bodies are buffered for hashing up to a size limit; larger requests are rejected with 413.
+ * A response too large to store still keeps the key claimed, and a repeat is rejected with 409 rather
+ * than executed again.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyFilter.class);
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotency-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    /**
+     * POST endpoints whose side effects must not be duplicated by client or gateway retries
+     */
+    private static final Set<String> COVERED_PATHS = Set.of(
+            "/api/tasks",
+            "/api/tasks/batch",
+            "/api/tasks/batch-stop",
+            "/api/datasets",
+            "/api/files",
+            "/api/models"
+    );
+
+    @Value("${app.idempotency.max-response-bytes}")
+    private int maxResponseBytes;
+
+    @Value("${app.idempotency.max-request-bytes}")
+    private int maxRequestBytes;
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public IdempotencyFilter(IdempotencyService idempotencyService, ObjectMapper objectMapper) {
+        this.idempotencyService = idempotencyService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !COVERED_PATHS.contains(stripTrailingSlash(request.getRequestURI()));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof JwtUserPrincipal principal)) {
+            // Unauthenticated requests are rejected further down the chain
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        var key = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, ApiErrorCode.IDEMPOTENCY_KEY_INVALID,
+                    "Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        var body = readBody(request);
+        if (body == null) {
+            writeError(request, response, ApiErrorCode.IDEMPOTENCY_REQUEST_TOO_LARGE,
+                    "Request body exceeds " + maxRequestBytes + " bytes; retry without the Idempotency-Key header");
+            return;
+        }
+        var cachedRequest = new CachedBodyRequest(request, body);
+        var requestHash = requestHash(cachedRequest);
+        var userId = principal.getId();
+
+        var claim = idempotencyService.claim(userId, key, requestHash);
+        if (claim.isEmpty()) {
+            handleDuplicate(request, response, userId, key, requestHash);
+            return;
+        }
+
+        var claimId = claim.get();
+        var responseWrapper = new ContentCachingResponseWrapper(response);
+        var stored = false;
+        try {
+            filterChain.doFilter(cachedRequest, responseWrapper);
+            stored = store(claimId, userId, key, responseWrapper);
+        } finally {
+            if (!stored) {
+                idempotencyService.release(claimId, userId, key);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * Replay, wait for, or reject a request whose key is already claimed
+     */
+    private void handleDuplicate(HttpServletRequest request, HttpServletResponse response,
+                                 UUID userId, String key, String requestHash) throws IOException {
+        var existing = idempotencyService.find(userId, key).orElse(null);
+        if (existing != null && !existing.getRequestHash().equals(requestHash)) {
+            writeError(request, response, ApiErrorCode.IDEMPOTENCY_KEY_REUSED,
+                    ApiErrorCode.IDEMPOTENCY_KEY_REUSED.getDefaultMessage());
+            return;
+        }
+
+        var completed = idempotencyService.awaitCompletion(userId, key).orElse(null);
+        if (completed == null) {
+            writeError(request, response, ApiErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS,
+                    ApiErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS.getDefaultMessage());
+            return;
+        }
+        if (!completed.getRequestHash().equals(requestHash)) {
+            writeError(request, response, ApiErrorCode.IDEMPOTENCY_KEY_REUSED,
+                    ApiErrorCode.IDEMPOTENCY_KEY_REUSED.getDefaultMessage());
+            return;
+        }
+        if (Boolean.TRUE.equals(completed.getResponseOmitted())) {
+            writeError(request, response, ApiErrorCode.IDEMPOTENCY_RESPONSE_UNAVAILABLE,
+                    ApiErrorCode.IDEMPOTENCY_RESPONSE_UNAVAILABLE.getDefaultMessage());
+            return;
+        }
+        replay(response, completed);
+    }
+
+    /**
+     * Persist a successful or client-error response; server errors stay retryable. An oversized body is not
+     * stored, but the key stays claimed since the request already took effect.
+     */
+    private boolean store(UUID claimId, UUID userId, String key, ContentCachingResponseWrapper responseWrapper) {
+        var status = responseWrapper.getStatus();
+        var body = responseWrapper.getContentAsByteArray();
+        if (status >= 500) {
+            return false;
+        }
+        try {
+            if (body.length > maxResponseBytes) {
+                idempotencyService.completeWithoutBody(claimId, userId, key, status);
+                logger.info("Idempotent response too large to store: user={}, key={}, bytes={}",
+                        userId, key, body.length);
+            } else {
+                idempotencyService.complete(claimId, userId, key, status, responseWrapper.getContentType(), body);
+            }
+            return true;
+        } catch (Exception e) {
+            logger.warn("Failed to store idempotent response: user={}, key={}, error={}", userId, key, e.getMessage());
+            return false;
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyRecord record) throws IOException {
+        response.setStatus(record.getResponseStatus());
+        if (record.getResponseContentType() != null) {
+            response.setContentType(record.getResponseContentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        var body = record.getResponseBody();
+        if (body != null && body.length > 0) {
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response,
+                            ApiErrorCode errorCode, String message) throws IOException {
+        var errorResponse = new ApiErrorResponse(
+                errorCode.getStatusCode(),
+                errorCode.getHttpStatus().getReasonPhrase(),
+                errorCode.name(),
+                message,
+                request.getRequestURI()
+        );
+        response.setStatus(errorCode.getStatusCode());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private static String requestHash(CachedBodyRequest request) {
+        var digest = HashUtil.newSha256();
+        digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(stripTrailingSlash(request.getRequestURI()).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(request.body);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Read the whole body, or return null if it exceeds the limit
+     */
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > maxRequestBytes) {
+            return null;
+        }
+        var body = request.getInputStream().readNBytes(maxRequestBytes + 1);
+        return body.length > maxRequestBytes ? null : body;
+    }
+
+    private static String stripTrailingSlash(String uri) {
+        return uri.length() > 1 && uri.endsWith("/") ? uri.substring(0, uri.length() - 1) : uri;
+    }
+
+    /**
+     * Request wrapper that reads the body once so it can be hashed and still consumed by the controller
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            var input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * The body is already in memory, so the listener is told right away that it can read all of it
+                 */
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            var encoding = getCharacterEncoding();
+            var charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
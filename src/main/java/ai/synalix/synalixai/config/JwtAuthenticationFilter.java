@@ -1,6 +1,7 @@
 package ai.synalix.synalixai.config;
 
 import ai.synalix.synalixai.enums.UserRole;
+import ai.synalix.synalixai.service.AuthTokenCache;
 import ai.synalix.synalixai.service.UserService;
 import ai.synalix.synalixai.util.JwtUtil;
 import jakarta.servlet.FilterChain;
@@ -12,14 +13,12 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -35,11 +34,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserService userService;
+    private final AuthTokenCache authTokenCache;
 
     @Autowired
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserService userService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserService userService, AuthTokenCache authTokenCache) {
         this.jwtUtil = jwtUtil;
         this.userService = userService;
+        this.authTokenCache = authTokenCache;
     }
 
     @Override
@@ -55,29 +56,38 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        // Check if user is already authenticated
+        if (SecurityContextHolder.getContext().getAuthentication() != null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         try {
             // Extract token from Authorization header
             final var jwt = authorizationHeader.substring(BEARER_PREFIX.length());
 
-            // Validate token format and expiration
-            if (!jwtUtil.validateToken(jwt)) {
-                logger.debug("Invalid or expired JWT token");
+            // Tokens verified before are resolved from the cache without re-checking signature or user
+            final var cacheKey = authTokenCache.key(jwt);
+            final var cachedPrincipal = authTokenCache.get(cacheKey);
+            if (cachedPrincipal != null) {
+                authenticate(cachedPrincipal, request);
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            // Check if token is access token
-            if (!jwtUtil.isAccessToken(jwt)) {
-                logger.debug("Token is not an access token");
+            // Verify signature, expiration and token type with a single parse
+            final var claims = jwtUtil.parseAccessToken(jwt).orElse(null);
+            if (claims == null) {
+                logger.debug("Invalid, expired or non-access JWT token");
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            // Extract user information from token
-            final var username = jwtUtil.extractUsername(jwt);
-            final var userIdStr = jwtUtil.extractUserId(jwt);
-            final var userRole = jwtUtil.extractUserRole(jwt);
-            final var userStatus = jwtUtil.extractUserStatus(jwt);
+            // Extract user information from the verified claims
+            final var username = claims.getSubject();
+            final var userIdStr = claims.get("userId", String.class);
+            final var userRole = claims.get("role", String.class);
+            final var userStatus = claims.get("status", String.class);
 
             // Validate extracted information
             if (username == null || userIdStr == null || userRole == null || userStatus == null) {
@@ -86,19 +96,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            // Check if user is already authenticated
-            if (SecurityContextHolder.getContext().getAuthentication() != null) {
-                filterChain.doFilter(request, response);
-                return;
-            }
-
             // Verify user still exists and is active
             try {
                 final var userId = UUID.fromString(userIdStr);
+                final var generation = authTokenCache.generation(userId);
                 final var user = userService.getUserById(userId);
 
                 // Validate token against user
-                if (!jwtUtil.validateToken(jwt, user)) {
+                if (!jwtUtil.validateClaims(claims, user)) {
                     logger.debug("Token validation failed for user: {}", username);
                     filterChain.doFilter(request, response);
                     return;
@@ -112,23 +117,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                         userStatus
                 );
 
-                // Create authorities based on user role
-                var authorities = List.of(
-                        new SimpleGrantedAuthority("ROLE_" + userRole)
-                );
-
-                // Create authentication token
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userPrincipal,
-                        null,
-                        authorities
-                );
-
-                // Set authentication details
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                // Set authentication in security context
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+                authenticate(userPrincipal, request);
+                authTokenCache.put(cacheKey, userPrincipal, claims.getExpiration().getTime(), generation);
 
                 logger.debug("Successfully authenticated user: {} with role: {}", username, userRole);
 
@@ -145,4 +135,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Set the authenticated principal in the security context
+     */
+    private void authenticate(JwtUserPrincipal userPrincipal, HttpServletRequest request) {
+        // Create authentication token with authorities based on user role
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                userPrincipal,
+                null,
+                userPrincipal.getAuthorities()
+        );
+
+        // Set authentication details
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+        // Set authentication in security context
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package ai.synalix.synalixai.config;
+
+import ai.synalix.synalixai.enums.UserRole;
+import ai.synalix.synalixai.service.UserService;
+import ai.synalix.synalixai.util.JwtUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Authenticates WebSocket handshakes with a JWT access token.
+ * Browsers cannot set headers on WebSocket upgrades, so the token may also be passed
+ * as the {@code access_token} query parameter.
+ */
+@Component
+public class JwtHandshakeInterceptor implements HandshakeInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtHandshakeInterceptor.class);
+
+    /**
+     * Handshake attribute holding the authenticated {@link JwtUserPrincipal}
+     */
+    public static final String PRINCIPAL_ATTRIBUTE = "principal";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String TOKEN_QUERY_PARAM = "access_token";
+
+    private final JwtUtil jwtUtil;
+    private final UserService userService;
+
+    @Autowired
+    public JwtHandshakeInterceptor(JwtUtil jwtUtil, UserService userService) {
+        this.jwtUtil = jwtUtil;
+        this.userService = userService;
+    }
+
+    @Override
+    public boolean beforeHandshake(@NonNull ServerHttpRequest request,
+                                   @NonNull ServerHttpResponse response,
+                                   @NonNull WebSocketHandler wsHandler,
+                                   @NonNull Map<String, Object> attributes) {
+        var token = resolveToken(request);
+        var claims = token != null ? jwtUtil.parseAccessToken(token).orElse(null) : null;
+        if (claims == null) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        try {
+            var userId = UUID.fromString(claims.get("userId", String.class));
+            var user = userService.getUserById(userId);
+            if (!jwtUtil.validateClaims(claims, user)) {
+                response.setStatusCode(HttpStatus.UNAUTHORIZED);
+                return false;
+            }
+            var role = claims.get("role", String.class);
+            attributes.put(PRINCIPAL_ATTRIBUTE, new JwtUserPrincipal(
+                    userId,
+                    user.getUsername(),
+                    "ADMIN".equals(role) ? UserRole.ADMIN : UserRole.USER,
+                    claims.get("status", String.class)));
+            return true;
+        } catch (Exception e) {
+            logger.debug("WebSocket handshake rejected: {}", e.getMessage());
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+    }
+
+    @Override
+    public void afterHandshake(@NonNull ServerHttpRequest request,
+                               @NonNull ServerHttpResponse response,
+                               @NonNull WebSocketHandler wsHandler,
+                               Exception exception) {
+        // Nothing to do after handshake
+    }
+
+    /**
+     * Read the token from the Authorization header or the access_token query parameter
+     */
+    private String resolveToken(ServerHttpRequest request) {
+        var header = request.getHeaders().getFirst("Authorization");
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            return header.substring(BEARER_PREFIX.length());
+        }
+        return UriComponentsBuilder.fromUri(request.getURI()).build()
+                .getQueryParams()
+                .getFirst(TOKEN_QUERY_PARAM);
+    }
+}
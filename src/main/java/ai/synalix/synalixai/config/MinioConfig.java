@@ -39,6 +39,9 @@ public class MinioConfig {
     @Value("${minio.bucket.logs}")
     private String logsBucket;
 
+    @Value("${minio.bucket.exports}")
+    private String exportsBucket;
+
     @Value("${minio.presigned-url-expiry.upload}")
     private int presignedUrlUploadExpiry;
 
@@ -75,6 +78,7 @@ public class MinioConfig {
             createBucketIfNotExists(client, checkpointsBucket);
             createBucketIfNotExists(client, logsBucket);
             createBucketIfNotExists(client, filesBucket);
+            createBucketIfNotExists(client, exportsBucket);
             log.info("MinIO buckets initialized successfully");
         } catch (Exception e) {
             log.error("Failed to initialize MinIO buckets: {}", e.getMessage());
@@ -11,7 +11,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
- * RabbitMQ configuration for audit logging
+ * RabbitMQ configuration for audit logging and task metrics ingestion
  */
 @Configuration
 public class RabbitMQConfig {
@@ -25,6 +25,21 @@ public class RabbitMQConfig {
     @Value("${audit.routing.key}")
     private String auditRoutingKey;
 
+    @Value("${app.audit-consumer.batch-size}")
+    private int auditBatchSize;
+
+    @Value("${app.audit-consumer.receive-timeout-ms}")
+    private long auditReceiveTimeoutMs;
+
+    @Value("${metrics.queue.name}")
+    private String metricsQueueName;
+
+    @Value("${metrics.exchange.name}")
+    private String metricsExchangeName;
+
+    @Value("${metrics.routing.key}")
+    private String metricsRoutingKey;
+
     /**
      * Audit queue configuration
      */
@@ -54,6 +69,41 @@ public class RabbitMQConfig {
                 .with(auditRoutingKey);
     }
 
+    /**
+     * Dead-letter queue for audit messages that could not be stored
+     */
+    @Bean
+    public Queue auditDeadLetterQueue() {
+        return QueueBuilder.durable(auditQueueName + ".dlq").build();
+    }
+
+    /**
+     * Task metrics queue configuration
+     */
+    @Bean
+    public Queue metricsQueue() {
+        return QueueBuilder.durable(metricsQueueName).build();
+    }
+
+    /**
+     * Task metrics exchange configuration
+     */
+    @Bean
+    public TopicExchange metricsExchange() {
+        return new TopicExchange(metricsExchangeName);
+    }
+
+    /**
+     * Binding between metrics queue and exchange
+     */
+    @Bean
+    public Binding metricsBinding() {
+        return BindingBuilder
+                .bind(metricsQueue())
+                .to(metricsExchange())
+                .with(metricsRoutingKey);
+    }
+
     /**
      * Message converter for JSON serialization
      */
@@ -84,4 +134,23 @@ public class RabbitMQConfig {
         factory.setMaxConcurrentConsumers(10);
         return factory;
     }
+
+    /**
+     * Batch listener container factory for audit logs: delivers up to the batch size, or whatever
+     * arrived once no message came within the receive timeout, and acknowledges the batch together
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory auditBatchListenerContainerFactory(ConnectionFactory connectionFactory) {
+        var factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(auditBatchSize);
+        factory.setReceiveTimeout(auditReceiveTimeoutMs);
+        factory.setPrefetchCount(auditBatchSize);
+        factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(3);
+        return factory;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package ai.synalix.synalixai.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduled background jobs configuration
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,32 @@
+package ai.synalix.synalixai.config;
+
+import ai.synalix.synalixai.controller.EventWebSocketHandler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * WebSocket configuration for the real-time event hub
+ */
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final EventWebSocketHandler eventWebSocketHandler;
+    private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+
+    @Autowired
+    public WebSocketConfig(EventWebSocketHandler eventWebSocketHandler,
+                           JwtHandshakeInterceptor jwtHandshakeInterceptor) {
+        this.eventWebSocketHandler = eventWebSocketHandler;
+        this.jwtHandshakeInterceptor = jwtHandshakeInterceptor;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(eventWebSocketHandler, "/ws/events")
+                .addInterceptors(jwtHandshakeInterceptor);
+    }
+}
@@ -0,0 +1,87 @@
+package ai.synalix.synalixai.controller;
+
+import ai.synalix.synalixai.config.JwtUserPrincipal;
+import ai.synalix.synalixai.dto.audit.AuditExportRequest;
+import ai.synalix.synalixai.dto.audit.AuditExportResponse;
+import ai.synalix.synalixai.dto.audit.AuditLogFilter;
+import ai.synalix.synalixai.dto.audit.AuditLogPageResponse;
+import ai.synalix.synalixai.enums.AuditOperationType;
+import ai.synalix.synalixai.service.AuditExportService;
+import ai.synalix.synalixai.service.AuditService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Audit log query and export REST controller
+ */
+@RestController
+@RequestMapping("/api/audit-logs")
+public class AuditLogController {
+
+    private final AuditService auditService;
+    private final AuditExportService auditExportService;
+
+    @Autowired
+    public AuditLogController(AuditService auditService, AuditExportService auditExportService) {
+        this.auditService = auditService;
+        this.auditExportService = auditExportService;
+    }
+
+    /**
+     * Get audit logs page by page, newest first (Admin only)
+     *
+     * @param details JSON object the log details must contain, e.g. {"action":"delete"}
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AuditLogPageResponse> getAuditLogs(
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) AuditOperationType operationType,
+            @RequestParam(required = false) String resourceId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String details,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        var filter = new AuditLogFilter(userId, operationType, resourceId, from, to, details);
+        var page = auditService.getAuditLogs(filter, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Start exporting the matching audit logs to object storage as gzip-compressed NDJSON or CSV (Admin only).
+     * Returns immediately; poll the export until it is completed to get its download URL.
+     */
+    @PostMapping("/exports")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AuditExportResponse> startExport(
+            @Valid @RequestBody AuditExportRequest request,
+            @AuthenticationPrincipal JwtUserPrincipal principal) {
+        var export = auditExportService.startExport(request, principal.getId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(export);
+    }
+
+    /**
+     * Get the status of an audit log export and, once completed, its download URL (Admin only)
+     */
+    @GetMapping("/exports/{exportId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AuditExportResponse> getExport(@PathVariable UUID exportId) {
+        return ResponseEntity.ok(auditExportService.getExport(exportId));
+    }
+}
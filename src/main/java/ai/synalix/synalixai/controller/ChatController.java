@@ -5,9 +5,12 @@ import ai.synalix.synalixai.dto.chat.ChatCompletionsResponse;
 import ai.synalix.synalixai.config.JwtUserPrincipal;
 import ai.synalix.synalixai.service.ChatService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.UUID;
 
 /**
@@ -36,4 +39,22 @@ public class ChatController {
         var resp = chatService.chat(request, id);
         return ResponseEntity.ok(resp);
     }
+
+    /**
+     * 流式补全：以 Server-Sent Events 透传后端的 token 流
+     */
+    @PostMapping(value = "/{id}/completions", params = "stream=true", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> chatCompletionsStream(
+            @Valid @RequestBody ChatCompletionsRequest request,
+            @PathVariable UUID id,
+            @AuthenticationPrincipal JwtUserPrincipal principal) {
+
+        var body = chatService.chatStream(request, id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                // Keep reverse proxies such as nginx from buffering the stream
+                .header("X-Accel-Buffering", "no")
+                .body(body);
+    }
 }
\ No newline at end of file
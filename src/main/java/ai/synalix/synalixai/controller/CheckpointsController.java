@@ -5,6 +5,7 @@ import ai.synalix.synalixai.dto.model.CheckpointDownloadUrlResponse;
 import ai.synalix.synalixai.dto.model.CheckpointQueryRequest;
 import ai.synalix.synalixai.dto.model.CheckpointResponse;
 import ai.synalix.synalixai.config.JwtUserPrincipal;
+import ai.synalix.synalixai.service.BackendCircuitBreaker;
 import ai.synalix.synalixai.service.CheckpointService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -38,8 +39,14 @@ public class CheckpointsController {
             @PathVariable @NotNull UUID modelId,
             @AuthenticationPrincipal JwtUserPrincipal principal) {
         var userId = principal.getId();
-        var list = checkpointService.fetchAndStoreBackendCheckpoints(modelId);
-        return ResponseEntity.ok(list);
+        var result = checkpointService.fetchAndStoreBackendCheckpoints(modelId);
+        if (result.stale()) {
+            return ResponseEntity.ok()
+                    .header(BackendCircuitBreaker.STALE_HEADER, "true")
+                    .header(BackendCircuitBreaker.FETCHED_AT_HEADER, result.fetchedAt().toString())
+                    .body(result.value());
+        }
+        return ResponseEntity.ok(result.value());
     }
 
     /**
@@ -0,0 +1,75 @@
+package ai.synalix.synalixai.controller;
+
+import ai.synalix.synalixai.config.JwtHandshakeInterceptor;
+import ai.synalix.synalixai.config.JwtUserPrincipal;
+import ai.synalix.synalixai.dto.event.SubscriptionRequest;
+import ai.synalix.synalixai.exception.ApiException;
+import ai.synalix.synalixai.service.EventHubService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+/**
+ * WebSocket endpoint /ws/events: handles subscribe/unsubscribe frames and
+ * hands sessions over to {@link EventHubService} for event delivery
+ */
+@Component
+public class EventWebSocketHandler extends TextWebSocketHandler {
+
+    private final EventHubService eventHubService;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public EventWebSocketHandler(EventHubService eventHubService, ObjectMapper objectMapper) {
+        this.eventHubService = eventHubService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void afterConnectionEstablished(@NonNull WebSocketSession session) throws Exception {
+        var principal = (JwtUserPrincipal) session.getAttributes().get(JwtHandshakeInterceptor.PRINCIPAL_ATTRIBUTE);
+        if (principal == null) {
+            session.close(CloseStatus.POLICY_VIOLATION);
+            return;
+        }
+        eventHubService.register(session, principal);
+    }
+
+    @Override
+    protected void handleTextMessage(@NonNull WebSocketSession session, @NonNull TextMessage message) {
+        SubscriptionRequest request;
+        try {
+            request = objectMapper.readValue(message.getPayload(), SubscriptionRequest.class);
+        } catch (Exception e) {
+            eventHubService.sendError(session.getId(), null, "Malformed frame");
+            return;
+        }
+
+        try {
+            if ("subscribe".equalsIgnoreCase(request.getAction())) {
+                eventHubService.subscribe(session.getId(), request.getTopic());
+            } else if ("unsubscribe".equalsIgnoreCase(request.getAction())) {
+                eventHubService.unsubscribe(session.getId(), request.getTopic());
+            } else {
+                eventHubService.sendError(session.getId(), request.getTopic(), "Unknown action: " + request.getAction());
+            }
+        } catch (ApiException e) {
+            eventHubService.sendError(session.getId(), request.getTopic(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(@NonNull WebSocketSession session, @NonNull CloseStatus status) {
+        eventHubService.unregister(session.getId());
+    }
+
+    @Override
+    public void handleTransportError(@NonNull WebSocketSession session, @NonNull Throwable exception) {
+        eventHubService.unregister(session.getId());
+    }
+}
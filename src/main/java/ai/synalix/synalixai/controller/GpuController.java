@@ -1,13 +1,21 @@
 package ai.synalix.synalixai.controller;
 
+import ai.synalix.synalixai.dto.gpu.BatchUpdateUserGpuPermissionRequest;
+import ai.synalix.synalixai.dto.gpu.GpuHistoryResponse;
 import ai.synalix.synalixai.dto.gpu.GpuResourceResponse;
 import ai.synalix.synalixai.dto.gpu.UserGpuPermissionResponse;
 import ai.synalix.synalixai.dto.gpu.UpdateUserGpuPermissionRequest;
 import ai.synalix.synalixai.dto.gpu.ResourceDetail;
+import ai.synalix.synalixai.enums.ApiErrorCode;
+import ai.synalix.synalixai.enums.TelemetryResolution;
+import ai.synalix.synalixai.exception.ApiException;
+import ai.synalix.synalixai.service.BackendCircuitBreaker;
 import ai.synalix.synalixai.service.GpuPermissionService;
+import ai.synalix.synalixai.service.GpuTelemetryService;
 import ai.synalix.synalixai.service.ResourceService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -15,6 +23,8 @@ import org.springframework.web.bind.annotation.*;
 
 import ai.synalix.synalixai.config.JwtUserPrincipal;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -28,11 +38,14 @@ public class GpuController {
 
     private final ResourceService resourceService;
     private final GpuPermissionService gpuPermissionService;
+    private final GpuTelemetryService gpuTelemetryService;
 
     @Autowired
-    public GpuController(ResourceService resourceService, GpuPermissionService gpuPermissionService) {
+    public GpuController(ResourceService resourceService, GpuPermissionService gpuPermissionService,
+                         GpuTelemetryService gpuTelemetryService) {
         this.resourceService = resourceService;
         this.gpuPermissionService = gpuPermissionService;
+        this.gpuTelemetryService = gpuTelemetryService;
     }
 
     /**
@@ -40,13 +53,32 @@ public class GpuController {
      */
     @GetMapping("/resources")
     public ResponseEntity<List<GpuResourceResponse>> getGpuResources() {
-        var resourceDetails = resourceService.getAllResources();
-        var responses = resourceDetails.stream()
+        var status = resourceService.getGpuStatus();
+        var responses = status.getGpuDetails().stream()
                 .map(this::convertToGpuResourceResponse)
                 .collect(Collectors.toList());
+        if (status.isStale()) {
+            return ResponseEntity.ok()
+                    .header(BackendCircuitBreaker.STALE_HEADER, "true")
+                    .header(BackendCircuitBreaker.FETCHED_AT_HEADER, status.getFetchedAt().toString())
+                    .body(responses);
+        }
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * Get the telemetry history of a GPU as delta-encoded columns
+     */
+    @GetMapping("/{id}/history")
+    public ResponseEntity<GpuHistoryResponse> getGpuHistory(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) TelemetryResolution resolution) {
+        var history = gpuTelemetryService.getHistory(id, from, to, resolution);
+        return ResponseEntity.ok(history);
+    }
+
     /**
      * Get all user GPU permissions (Admin only)
      */
@@ -80,6 +112,24 @@ public class GpuController {
         return ResponseEntity.ok(permission);
     }
 
+    /**
+     * Replace GPU permissions for several users in one transaction (Admin only)
+     */
+    @PutMapping("/permissions")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<UserGpuPermissionResponse>> updateUserGpuPermissions(
+            @Valid @RequestBody BatchUpdateUserGpuPermissionRequest request) {
+        var permissions = new LinkedHashMap<UUID, List<Long>>();
+        for (var update : request.getPermissions()) {
+            if (permissions.putIfAbsent(update.getUserId(), update.getGpuIds()) != null) {
+                throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT,
+                        "Duplicate user ID in batch: " + update.getUserId());
+            }
+        }
+        var responses = gpuPermissionService.updateUserGpuPermissions(permissions);
+        return ResponseEntity.ok(responses);
+    }
+
     /**
      * Convert ResourceDetail to GpuResourceResponse
      */
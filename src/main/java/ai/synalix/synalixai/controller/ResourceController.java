@@ -3,6 +3,7 @@ package ai.synalix.synalixai.controller;
 import ai.synalix.synalixai.dto.gpu.ResourceDetail;
 import ai.synalix.synalixai.dto.resource.ResourceResponse;
 import ai.synalix.synalixai.entity.Resource;
+import ai.synalix.synalixai.service.BackendCircuitBreaker;
 import ai.synalix.synalixai.service.ResourceService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -32,11 +33,17 @@ public class ResourceController {
      */
     @GetMapping
     public ResponseEntity<List<ResourceResponse>> getAllResources() {
-        var resources = resourceService.getAllResources();
-        var responses = resources.stream()
+        var status = resourceService.getGpuStatus();
+        var responses = status.getGpuDetails().stream()
                 .map(this::convertToResourceResponse)
                 .collect(Collectors.toList());
 
+        if (status.isStale()) {
+            return ResponseEntity.ok()
+                    .header(BackendCircuitBreaker.STALE_HEADER, "true")
+                    .header(BackendCircuitBreaker.FETCHED_AT_HEADER, status.getFetchedAt().toString())
+                    .body(responses);
+        }
         return ResponseEntity.ok(responses);
     }
 
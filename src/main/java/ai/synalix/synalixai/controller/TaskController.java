@@ -1,21 +1,34 @@
 package ai.synalix.synalixai.controller;
 
 import ai.synalix.synalixai.config.JwtUserPrincipal;
+import ai.synalix.synalixai.dto.task.BatchCreateTaskRequest;
+import ai.synalix.synalixai.dto.task.BatchStopTaskRequest;
+import ai.synalix.synalixai.dto.task.BatchTaskItemResult;
+import ai.synalix.synalixai.dto.task.BatchTaskResponse;
 import ai.synalix.synalixai.dto.task.CreateTaskRequest;
 import ai.synalix.synalixai.dto.task.TaskChartResponse;
+import ai.synalix.synalixai.dto.task.TaskMetricSeriesResponse;
 import ai.synalix.synalixai.dto.task.TaskMetricsResponse;
+import ai.synalix.synalixai.dto.task.TaskPageResponse;
 import ai.synalix.synalixai.dto.task.TaskResponse;
 import ai.synalix.synalixai.entity.Task;
+import ai.synalix.synalixai.service.TaskLogService;
 import ai.synalix.synalixai.service.TaskService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Task management REST controller
@@ -25,10 +38,12 @@ import java.util.stream.Collectors;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskLogService taskLogService;
 
     @Autowired
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskLogService taskLogService) {
         this.taskService = taskService;
+        this.taskLogService = taskLogService;
     }
 
     /**
@@ -47,24 +62,48 @@ public class TaskController {
                 request.getDatasetId(),
                 request.getGpuIds(),
                 request.getConfig(),
+                request.getPriority(),
+                request.getGpuCount(),
+                request.getGpuMemoryMb(),
                 userId);
 
         return ResponseEntity.ok(convertToTaskResponse(createdTask));
     }
 
     /**
-     * Get all tasks
+     * Create several tasks at once; each item succeeds or fails independently
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchTaskResponse> createTasks(
+            @Valid @RequestBody BatchCreateTaskRequest request,
+            @AuthenticationPrincipal JwtUserPrincipal principal) {
+        var outcomes = taskService.createTasks(request.getTasks(), principal.getId());
+        return ResponseEntity.ok(convertToBatchResponse(outcomes));
+    }
+
+    /**
+     * Stop several tasks at once; each item succeeds or fails independently
+     */
+    @PostMapping("/batch-stop")
+    public ResponseEntity<BatchTaskResponse> stopTasks(
+            @Valid @RequestBody BatchStopTaskRequest request,
+            @AuthenticationPrincipal JwtUserPrincipal principal) {
+        var outcomes = taskService.stopTasks(request.getTaskIds(), principal.getId());
+        return ResponseEntity.ok(convertToBatchResponse(outcomes));
+    }
+
+    /**
+     * Get tasks page by page, newest first
      */
     @GetMapping
-    public ResponseEntity<List<TaskResponse>> getAllTasks(
+    public ResponseEntity<TaskPageResponse> getAllTasks(
             @RequestParam(required = false) ai.synalix.synalixai.enums.TaskStatus status,
-            @RequestParam(required = false) ai.synalix.synalixai.enums.TaskType type) {
-        var tasks = taskService.getAllTasks(status, type);
-        var responses = tasks.stream()
-                .map(this::convertToTaskResponse)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(responses);
+            @RequestParam(required = false) ai.synalix.synalixai.enums.TaskType type,
+            @RequestParam(required = false) UUID createdBy,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        var page = taskService.getAllTasks(status, type, createdBy, cursor, limit);
+        return ResponseEntity.ok(page);
     }
 
     /**
@@ -97,6 +136,20 @@ public class TaskController {
         return ResponseEntity.ok(metrics);
     }
 
+    /**
+     * Get a metric series for charting, optionally limited to a time range and downsampled
+     */
+    @GetMapping("/{id}/metrics/series")
+    public ResponseEntity<TaskMetricSeriesResponse> getTaskMetricSeries(
+            @PathVariable UUID id,
+            @RequestParam String metric,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Integer points) {
+        var series = taskService.getTaskMetricSeries(id, metric, from, to, points);
+        return ResponseEntity.ok(series);
+    }
+
     /**
      * Get task chart
      */
@@ -107,12 +160,56 @@ public class TaskController {
     }
 
     /**
-     * Get task logs
+     * Get task logs, optionally limited to a byte range or to the last N lines
      */
     @GetMapping("/{id}/logs")
-    public ResponseEntity<String> getTaskLogs(@PathVariable UUID id) {
-        var logs = taskService.getTaskLogs(id);
-        return ResponseEntity.ok(logs);
+    public ResponseEntity<StreamingResponseBody> getTaskLogs(
+            @PathVariable UUID id,
+            @RequestParam(required = false) Long offset,
+            @RequestParam(required = false) Long length,
+            @RequestParam(required = false) Integer tail) {
+        var range = taskLogService.resolveRange(id, offset, length, tail);
+        var textPlain = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+        if (!range.isExists()) {
+            var message = ("No logs available for task " + id).getBytes(StandardCharsets.UTF_8);
+            return ResponseEntity.ok()
+                    .contentType(textPlain)
+                    .body(outputStream -> outputStream.write(message));
+        }
+        return ResponseEntity.ok()
+                .contentType(textPlain)
+                .contentLength(range.getLength())
+                .header("X-Log-Offset", Long.toString(range.getStart()))
+                .header("X-Log-Size", Long.toString(range.getSize()))
+                .body(taskLogService.streamRange(id, range));
+    }
+
+    /**
+     * Follow task logs as server-sent events, starting at the given byte offset
+     */
+    @GetMapping(value = "/{id}/logs", params = "follow=true", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter followTaskLogs(
+            @PathVariable UUID id,
+            @RequestParam(required = false) Long offset,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return taskLogService.follow(id, lastEventId != null ? lastEventId : offset);
+    }
+
+    private BatchTaskResponse convertToBatchResponse(List<TaskService.BatchOutcome> outcomes) {
+        var results = new ArrayList<BatchTaskItemResult>(outcomes.size());
+        var succeeded = 0;
+        for (var i = 0; i < outcomes.size(); i++) {
+            var outcome = outcomes.get(i);
+            if (outcome.success()) {
+                succeeded++;
+                results.add(new BatchTaskItemResult(i, outcome.task().getId(), true,
+                        convertToTaskResponse(outcome.task()), null, null));
+            } else {
+                results.add(new BatchTaskItemResult(i, outcome.taskId(), false, null,
+                        outcome.errorCode().name(), outcome.errorCode().getDefaultMessage()));
+            }
+        }
+        return new BatchTaskResponse(succeeded, outcomes.size() - succeeded, results);
     }
 
     private TaskResponse convertToTaskResponse(Task task) {
@@ -127,6 +224,8 @@ public class TaskController {
         response.setCreatedBy(task.getCreatedBy());
         response.setCreatedAt(task.getCreatedAt());
         response.setUpdatedAt(task.getUpdatedAt());
+        response.setPriority(task.getPriority());
+        response.setAdmittedAt(task.getAdmittedAt());
         return response;
     }
 }
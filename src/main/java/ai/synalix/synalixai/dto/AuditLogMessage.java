@@ -1,10 +1,12 @@
 package ai.synalix.synalixai.dto;
 
 import ai.synalix.synalixai.enums.AuditOperationType;
+import com.fasterxml.jackson.annotation.JsonAlias;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.io.Serializable;
+import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.UUID;
 
@@ -18,7 +20,22 @@ public class AuditLogMessage implements Serializable {
     private AuditOperationType operationType;
     private UUID userId;
     private String resourceId;
+
+    /**
+     * Producers send the details as eventDescription
+     */
+    @JsonAlias("eventDescription")
     private Map<String, Object> details;
+
+    /**
+     * Id of the audit event; null from producers that predate it
+     */
+    private UUID eventId;
+
+    /**
+     * When the audited operation happened; null from producers that predate it
+     */
+    private LocalDateTime occurredAt;
     
     public AuditLogMessage(AuditOperationType operationType, UUID userId, String resourceId, Map<String, Object> details) {
         this.operationType = operationType;
@@ -0,0 +1,46 @@
+package ai.synalix.synalixai.dto.audit;
+
+import ai.synalix.synalixai.enums.AuditExportFormat;
+import ai.synalix.synalixai.enums.AuditOperationType;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Request DTO for starting an audit log export; unset filters are not applied
+ */
+@Data
+@NoArgsConstructor
+public class AuditExportRequest {
+
+    @NotNull(message = "Format cannot be null")
+    private AuditExportFormat format;
+
+    private UUID userId;
+
+    private AuditOperationType operationType;
+
+    private String resourceId;
+
+    /**
+     * Inclusive lower bound on the timestamp
+     */
+    private LocalDateTime from;
+
+    /**
+     * Exclusive upper bound on the timestamp
+     */
+    private LocalDateTime to;
+
+    /**
+     * JSON object the log details must contain, e.g. {"action":"delete"}
+     */
+    private String details;
+
+    public AuditLogFilter toFilter() {
+        return new AuditLogFilter(userId, operationType, resourceId, from, to, details);
+    }
+}
@@ -0,0 +1,41 @@
+package ai.synalix.synalixai.dto.audit;
+
+import ai.synalix.synalixai.enums.AuditExportFormat;
+import ai.synalix.synalixai.enums.AuditExportStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Response DTO for an audit log export job
+ */
+@Data
+@NoArgsConstructor
+public class AuditExportResponse {
+
+    private UUID id;
+
+    private AuditExportStatus status;
+
+    private AuditExportFormat format;
+
+    /**
+     * Rows written so far
+     */
+    private long rowCount;
+
+    /**
+     * Presigned download URL, set once the export is completed
+     */
+    private String downloadUrl;
+
+    private LocalDateTime downloadUrlExpiresAt;
+
+    private String error;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime completedAt;
+}
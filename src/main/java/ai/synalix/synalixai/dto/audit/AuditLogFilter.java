@@ -0,0 +1,17 @@
+package ai.synalix.synalixai.dto.audit;
+
+import ai.synalix.synalixai.enums.AuditOperationType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Optional filters for audit log queries; null fields are not applied
+ *
+ * @param from    inclusive lower bound on the timestamp
+ * @param to      exclusive upper bound on the timestamp
+ * @param details JSON object that the details column must contain
+ */
+public record AuditLogFilter(UUID userId, AuditOperationType operationType, String resourceId,
+                             LocalDateTime from, LocalDateTime to, String details) {
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.UUID;
 
@@ -20,4 +21,14 @@ public class AuditLogMessage {
     private UUID userId;
     private String resourceId;
     private Map<String, Object> eventDescription;
+
+    /**
+     * Id of the audit event; stays the same across redeliveries so the consumer can drop duplicates
+     */
+    private UUID eventId;
+
+    /**
+     * When the audited operation happened, as opposed to when the message was stored
+     */
+    private LocalDateTime occurredAt;
 }
\ No newline at end of file
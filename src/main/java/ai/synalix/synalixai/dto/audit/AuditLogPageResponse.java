@@ -0,0 +1,23 @@
+package ai.synalix.synalixai.dto.audit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for a page of audit logs with an opaque cursor for the next page
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogPageResponse {
+
+    private List<AuditLogResponse> items;
+
+    /**
+     * Cursor to pass as the cursor parameter for the next page, null when there are no more logs
+     */
+    private String nextCursor;
+}
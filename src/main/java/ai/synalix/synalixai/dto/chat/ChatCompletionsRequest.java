@@ -1,5 +1,6 @@
 package ai.synalix.synalixai.dto.chat;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.validation.Valid;
@@ -44,6 +45,12 @@ public class ChatCompletionsRequest {
 
         @JsonProperty("max_completion_tokens")
         private Integer maxCompletionTokens;
+
+        /**
+         * Ask the backend for a token stream; set by the server for /completions?stream=true
+         */
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Boolean stream;
     }
 
     /**
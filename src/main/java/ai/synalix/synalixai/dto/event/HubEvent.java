@@ -0,0 +1,30 @@
+package ai.synalix.synalixai.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Event frame pushed to WebSocket subscribers
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HubEvent {
+
+    /**
+     * Topic the client subscribed to (task:{id}, tasks:mine, gpu, messages)
+     */
+    private String topic;
+
+    /**
+     * Event type, e.g. TASK_STATUS, GPU_STATUS, MESSAGE_CREATED
+     */
+    private String type;
+
+    private Object payload;
+
+    private LocalDateTime timestamp;
+}
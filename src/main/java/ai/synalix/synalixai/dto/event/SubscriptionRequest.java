@@ -0,0 +1,21 @@
+package ai.synalix.synalixai.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Client frame for managing WebSocket topic subscriptions
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubscriptionRequest {
+
+    /**
+     * Either "subscribe" or "unsubscribe"
+     */
+    private String action;
+
+    private String topic;
+}
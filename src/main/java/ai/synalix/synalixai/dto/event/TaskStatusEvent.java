@@ -0,0 +1,25 @@
+package ai.synalix.synalixai.dto.event;
+
+import ai.synalix.synalixai.enums.TaskStatus;
+import ai.synalix.synalixai.enums.TaskType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Task change payload pushed on task:{id} and tasks:mine topics
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusEvent {
+    private UUID id;
+    private String name;
+    private TaskType type;
+    private TaskStatus status;
+    private UUID createdBy;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,20 @@
+package ai.synalix.synalixai.dto.gpu;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Request DTO for replacing the GPU permissions of several users at once
+ */
+@Data
+public class BatchUpdateUserGpuPermissionRequest {
+
+    @NotEmpty(message = "At least one user is required")
+    @Size(max = 1000, message = "A batch cannot contain more than 1000 users")
+    private List<@NotNull(message = "Permission update cannot be null") @Valid UserGpuPermissionUpdate> permissions;
+}
@@ -0,0 +1,43 @@
+package ai.synalix.synalixai.dto.gpu;
+
+import ai.synalix.synalixai.enums.TelemetryResolution;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * GPU telemetry history in delta-encoded columns.
+ * <p>
+ * Every array holds its first value as is and each following entry as the difference to the previous
+ * one, so decoding is a running sum. Utilization is in per mille, temperature in tenths of a degree
+ * Celsius and memory in MB; -1 marks a missing reading. For rollups the values are bucket averages.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GpuHistoryResponse {
+
+    private Long gpuId;
+
+    private TelemetryResolution resolution;
+
+    private int count;
+
+    /**
+     * Epoch milliseconds of each point, delta-encoded
+     */
+    private long[] timestamps;
+
+    private int[] utilization;
+
+    private int[] temperature;
+
+    private int[] memoryUsed;
+
+    /**
+     * Bucket maximum utilization, delta-encoded; rollup resolutions only
+     */
+    private int[] utilizationMax;
+}
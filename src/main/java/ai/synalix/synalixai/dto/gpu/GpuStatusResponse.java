@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -32,4 +33,16 @@ public class GpuStatusResponse {
      */
     @JsonProperty("gpu_details")
     private List<ResourceDetail> gpuDetails;
+
+    /**
+     * True when the backend is unreachable and this is the last known status
+     */
+    @JsonProperty("stale")
+    private boolean stale;
+
+    /**
+     * When this status was read from the backend
+     */
+    @JsonProperty("fetched_at")
+    private LocalDateTime fetchedAt;
 }
\ No newline at end of file
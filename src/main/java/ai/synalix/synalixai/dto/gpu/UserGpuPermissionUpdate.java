@@ -0,0 +1,24 @@
+package ai.synalix.synalixai.dto.gpu;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * GPU permissions of one user within a bulk update
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserGpuPermissionUpdate {
+
+    @NotNull(message = "User ID cannot be null")
+    private UUID userId;
+
+    @NotNull(message = "GPU IDs cannot be null")
+    private List<Long> gpuIds;
+}
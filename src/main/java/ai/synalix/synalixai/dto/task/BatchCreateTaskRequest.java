@@ -0,0 +1,19 @@
+package ai.synalix.synalixai.dto.task;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Request DTO for creating several tasks at once, e.g. a hyperparameter sweep
+ */
+@Data
+public class BatchCreateTaskRequest {
+
+    @NotEmpty(message = "At least one task is required")
+    @Size(max = 500, message = "A batch cannot contain more than 500 tasks")
+    private List<@Valid CreateTaskRequest> tasks;
+}
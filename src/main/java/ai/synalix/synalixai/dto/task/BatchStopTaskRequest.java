@@ -0,0 +1,20 @@
+package ai.synalix.synalixai.dto.task;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for stopping several tasks at once
+ */
+@Data
+public class BatchStopTaskRequest {
+
+    @NotEmpty(message = "At least one task ID is required")
+    @Size(max = 500, message = "A batch cannot contain more than 500 tasks")
+    private List<@NotNull(message = "Task ID cannot be null") UUID> taskIds;
+}
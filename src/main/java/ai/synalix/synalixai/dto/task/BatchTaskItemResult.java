@@ -0,0 +1,39 @@
+package ai.synalix.synalixai.dto.task;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one item of a batch task request
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchTaskItemResult {
+
+    /**
+     * Position of the item in the request
+     */
+    private int index;
+
+    private UUID taskId;
+
+    private boolean success;
+
+    /**
+     * Task details on success
+     */
+    private TaskResponse task;
+
+    /**
+     * {@link ai.synalix.synalixai.enums.ApiErrorCode} name on failure
+     */
+    private String errorCode;
+
+    private String message;
+}
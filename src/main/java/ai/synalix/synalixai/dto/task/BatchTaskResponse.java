@@ -0,0 +1,22 @@
+package ai.synalix.synalixai.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for batch task requests, one result per requested item in request order
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTaskResponse {
+
+    private int succeeded;
+
+    private int failed;
+
+    private List<BatchTaskItemResult> results;
+}
@@ -1,6 +1,8 @@
 package ai.synalix.synalixai.dto.task;
 
 import ai.synalix.synalixai.enums.TaskType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
@@ -29,4 +31,20 @@ public class CreateTaskRequest {
     private List<Integer> gpuIds;
 
     private Map<String, Object> config;
+
+    @Min(value = 0, message = "Priority cannot be negative")
+    @Max(value = 100, message = "Priority cannot exceed 100")
+    private Integer priority;
+
+    /**
+     * Number of GPUs to allocate when gpuIds is not given
+     */
+    @Min(value = 1, message = "GPU count must be at least 1")
+    private Integer gpuCount;
+
+    /**
+     * Free memory required on each GPU, in MB
+     */
+    @Min(value = 1, message = "GPU memory must be positive")
+    private Integer gpuMemoryMb;
 }
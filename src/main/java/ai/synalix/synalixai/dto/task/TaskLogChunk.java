@@ -0,0 +1,26 @@
+package ai.synalix.synalixai.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Chunk of task log text pushed in follow mode
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskLogChunk {
+
+    /**
+     * Byte offset of the first character of text
+     */
+    private long offset;
+
+    /**
+     * Byte offset to resume from
+     */
+    private long nextOffset;
+
+    private String text;
+}
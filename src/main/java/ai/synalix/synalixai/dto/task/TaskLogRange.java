@@ -0,0 +1,37 @@
+package ai.synalix.synalixai.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resolved byte range of a task log object
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskLogRange {
+
+    /**
+     * First byte of the range (inclusive)
+     */
+    private long start;
+
+    /**
+     * End of the range (exclusive)
+     */
+    private long end;
+
+    /**
+     * Total size of the log object, or -1 if the log does not exist yet
+     */
+    private long size;
+
+    public long getLength() {
+        return end - start;
+    }
+
+    public boolean isExists() {
+        return size >= 0;
+    }
+}
@@ -0,0 +1,36 @@
+package ai.synalix.synalixai.dto.task;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Per-step metrics pushed by the training backend over RabbitMQ
+ */
+@Data
+@NoArgsConstructor
+public class TaskMetricMessage {
+
+    /**
+     * Backend task id, matches Task.externalTaskId
+     */
+    @JsonProperty("task_id")
+    private String externalTaskId;
+
+    @JsonProperty("step")
+    private Long step;
+
+    /**
+     * Epoch milliseconds; the receive time is used when absent
+     */
+    @JsonProperty("timestamp")
+    private Long timestamp;
+
+    /**
+     * Metric values by name, e.g. loss, accuracy, lr, tokens_per_second
+     */
+    @JsonProperty("metrics")
+    private Map<String, Double> metrics;
+}
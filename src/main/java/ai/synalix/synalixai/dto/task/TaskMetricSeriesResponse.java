@@ -0,0 +1,32 @@
+package ai.synalix.synalixai.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Response DTO for a (possibly downsampled) metric series in columnar form
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskMetricSeriesResponse {
+    private UUID taskId;
+    private String metric;
+
+    /**
+     * Number of raw points in the requested range before downsampling
+     */
+    private int totalPoints;
+
+    private long[] steps;
+
+    /**
+     * Epoch milliseconds
+     */
+    private long[] timestamps;
+
+    private double[] values;
+}
@@ -11,8 +11,11 @@ import java.util.UUID;
 @Data
 public class TaskMetricsResponse {
     private UUID taskId;
+    private Long step;
     private Integer epoch;
     private Double loss;
     private Double accuracy;
+    private Double learningRate;
+    private Double tokensPerSecond;
     private LocalDateTime timestamp;
 }
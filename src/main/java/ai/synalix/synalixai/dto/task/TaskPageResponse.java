@@ -0,0 +1,23 @@
+package ai.synalix.synalixai.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for a page of tasks with an opaque cursor for the next page
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageResponse {
+
+    private List<TaskSummary> items;
+
+    /**
+     * Cursor to pass as the cursor parameter for the next page, null when there are no more tasks
+     */
+    private String nextCursor;
+}
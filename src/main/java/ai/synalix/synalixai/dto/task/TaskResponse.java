@@ -23,4 +23,6 @@ public class TaskResponse {
     private UUID createdBy;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Integer priority;
+    private LocalDateTime admittedAt;
 }
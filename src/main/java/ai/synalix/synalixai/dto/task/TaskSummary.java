@@ -0,0 +1,33 @@
+package ai.synalix.synalixai.dto.task;
+
+import ai.synalix.synalixai.enums.TaskStatus;
+import ai.synalix.synalixai.enums.TaskType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Lightweight task projection for list views, excluding the jsonb config
+ */
+public interface TaskSummary {
+
+    UUID getId();
+
+    String getName();
+
+    TaskType getType();
+
+    TaskStatus getStatus();
+
+    UUID getModelId();
+
+    UUID getDatasetId();
+
+    UUID getCreatedBy();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    Integer getPriority();
+}
@@ -15,7 +15,9 @@ import java.util.Map;
 import java.util.UUID;
 
 /**
- * Audit log entity class
+ * Audit log entity class.
+ * The table is range-partitioned by month on timestamp, with primary key (id, timestamp); partitions and
+ * indexes are managed by {@link ai.synalix.synalixai.service.AuditPartitionService}.
  */
 @Entity
 @Table(name = "audit_logs")
@@ -0,0 +1,69 @@
+package ai.synalix.synalixai.entity;
+
+import ai.synalix.synalixai.enums.TelemetryResolution;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Aggregated GPU telemetry for one GPU over one minute or one hour
+ */
+@Entity
+@Table(name = "gpu_telemetry_rollups",
+       uniqueConstraints = @UniqueConstraint(name = "uk_gpu_telemetry_rollups_bucket",
+               columnNames = {"gpu_id", "resolution", "bucket_start"}),
+       indexes = @Index(name = "idx_gpu_telemetry_rollups_resolution_bucket",
+               columnList = "resolution, bucket_start"))
+@Data
+@NoArgsConstructor
+public class GpuTelemetryRollup {
+
+    @Id
+    @UuidGenerator
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "gpu_id", nullable = false)
+    private Long gpuId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resolution", nullable = false, length = 10)
+    private TelemetryResolution resolution;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "sample_count", nullable = false)
+    private Integer sampleCount;
+
+    /**
+     * Utilization in per mille; null when no sample in the bucket reported it
+     */
+    @Column(name = "utilization_avg")
+    private Double utilizationAvg;
+
+    @Column(name = "utilization_max")
+    private Integer utilizationMax;
+
+    /**
+     * Temperature in tenths of a degree Celsius; null when no sample in the bucket reported it
+     */
+    @Column(name = "temperature_avg")
+    private Double temperatureAvg;
+
+    @Column(name = "temperature_max")
+    private Integer temperatureMax;
+
+    /**
+     * Memory used in MB
+     */
+    @Column(name = "memory_used_avg", nullable = false)
+    private Double memoryUsedAvg;
+
+    @Column(name = "memory_used_max", nullable = false)
+    private Integer memoryUsedMax;
+}
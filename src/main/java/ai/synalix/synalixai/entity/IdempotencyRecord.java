@@ -0,0 +1,66 @@
+package ai.synalix.synalixai.entity;
+
+import ai.synalix.synalixai.enums.IdempotencyStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Stored outcome of a request carrying an Idempotency-Key header, unique per (user, key)
+ */
+@Entity
+@Table(name = "idempotency_keys",
+       uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_keys_user_key",
+               columnNames = {"user_id", "idempotency_key"}),
+       indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at"))
+@Data
+@NoArgsConstructor
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 255)
+    private String idempotencyKey;
+
+    /**
+     * SHA-256 of method, path and body, to reject a key reused for a different request
+     */
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private IdempotencyStatus status;
+
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "response_content_type", length = 255)
+    private String responseContentType;
+
+    @Column(name = "response_body", columnDefinition = "bytea")
+    private byte[] responseBody;
+
+    /**
+     * Set when the request executed but its response was too large to store; duplicates are then rejected
+     */
+    @Column(name = "response_omitted")
+    private Boolean responseOmitted;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * While in progress, the end of the execution lease; once completed, the end of the replay window
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
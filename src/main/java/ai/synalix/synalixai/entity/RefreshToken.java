@@ -15,7 +15,10 @@ import java.util.UUID;
  * Refresh token entity class
  */
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_refresh_tokens_revoked_created_at", columnList = "revoked, created_at")
+})
 @Data
 @NoArgsConstructor
 public class RefreshToken {
@@ -29,10 +32,13 @@ public class RefreshToken {
     @Column(name = "user_id", nullable = false)
     private UUID userId;
 
-    @NotBlank(message = "Token cannot be blank")
+    /**
+     * SHA-256 of the token value as hex; the token itself is only ever returned to the client
+     */
+    @NotBlank(message = "Token hash cannot be blank")
     @Column(name = "token", nullable = false, unique = true)
     @ToString.Exclude
-    private String token;
+    private String tokenHash;
 
     @NotNull(message = "Expiry date cannot be null")
     @Column(name = "expires_at", nullable = false)
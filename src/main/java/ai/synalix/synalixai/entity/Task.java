@@ -9,6 +9,7 @@ import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.UuidGenerator;
@@ -22,7 +23,16 @@ import java.util.UUID;
  * Task entity class
  */
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_created_at_id", columnList = "created_at DESC, id DESC"),
+        @Index(name = "idx_tasks_status_created_at_id", columnList = "status, created_at DESC, id DESC"),
+        @Index(name = "idx_tasks_type_created_at_id", columnList = "type, created_at DESC, id DESC"),
+        @Index(name = "idx_tasks_status_type_created_at_id", columnList = "status, type, created_at DESC, id DESC"),
+        @Index(name = "idx_tasks_created_by_created_at_id", columnList = "created_by, created_at DESC, id DESC"),
+        @Index(name = "idx_tasks_admission_queue", columnList = "status, admitted_at, priority DESC, created_at")
+})
+// Only write changed columns so background jobs and request handlers do not overwrite each other
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 public class Task {
@@ -74,4 +84,28 @@ public class Task {
      */
     @Column(name = "external_task_id", length = 100)
     private String externalTaskId;
+
+    /**
+     * Scheduling priority, higher values are admitted first
+     */
+    @Column(name = "priority", nullable = false, columnDefinition = "integer default 0")
+    private Integer priority = 0;
+
+    /**
+     * Number of GPUs the task needs
+     */
+    @Column(name = "gpu_count")
+    private Integer gpuCount;
+
+    /**
+     * Free memory required on each assigned GPU, in MB
+     */
+    @Column(name = "gpu_memory_mb")
+    private Integer gpuMemoryMb;
+
+    /**
+     * Time the admission scheduler assigned GPUs and queued the task for submission
+     */
+    @Column(name = "admitted_at")
+    private LocalDateTime admittedAt;
 }
@@ -0,0 +1,56 @@
+package ai.synalix.synalixai.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Sealed, compressed chunk of a single task metric series.
+ * Points are encoded with {@link ai.synalix.synalixai.util.TimeSeriesCodec}.
+ */
+@Entity
+@Table(name = "task_metric_chunks", indexes = {
+        @Index(name = "idx_task_metric_chunks_series_time", columnList = "task_id, metric, start_time, end_time")
+})
+@Data
+@NoArgsConstructor
+public class TaskMetricChunk {
+
+    @Id
+    @UuidGenerator
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "task_id", nullable = false)
+    private UUID taskId;
+
+    @Column(name = "metric", nullable = false, length = 64)
+    private String metric;
+
+    @Column(name = "start_step", nullable = false)
+    private Long startStep;
+
+    @Column(name = "end_step", nullable = false)
+    private Long endStep;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalDateTime endTime;
+
+    @Column(name = "point_count", nullable = false)
+    private Integer pointCount;
+
+    @Column(name = "data", nullable = false, columnDefinition = "bytea")
+    private byte[] data;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,69 @@
+package ai.synalix.synalixai.entity;
+
+import ai.synalix.synalixai.enums.OutboxOperation;
+import ai.synalix.synalixai.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Pending backend call for a task, written in the same transaction as the task change
+ * and delivered asynchronously by {@link ai.synalix.synalixai.service.TaskOutboxDispatcher}
+ */
+@Entity
+@Table(name = "task_outbox", indexes = {
+        @Index(name = "idx_task_outbox_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_task_outbox_claim_token", columnList = "claim_token")
+})
+@Data
+@NoArgsConstructor
+public class TaskOutbox {
+
+    @Id
+    @UuidGenerator
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "task_id", nullable = false)
+    private UUID taskId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, length = 20)
+    private OutboxOperation operation;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    /**
+     * Earliest time of the next delivery attempt; while claimed, the end of the claim lease
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * Token of the dispatcher run that currently holds this entry
+     */
+    @Column(name = "claim_token")
+    private UUID claimToken;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -62,12 +62,28 @@ public enum ApiErrorCode {
     TASK_NOT_FOUND(HttpStatus.NOT_FOUND, "Task not found"),
     TASK_ACCESS_DENIED(HttpStatus.FORBIDDEN, "Access to task denied"),
     TASK_CANNOT_STOP(HttpStatus.BAD_REQUEST, "Task cannot be stopped in current status"),
+    TASK_LOG_FOLLOW_LIMIT_REACHED(HttpStatus.SERVICE_UNAVAILABLE, "Too many task log followers"),
 
     // Resource Errors (4xx)
     RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "Resource not found"),
+    GPU_ACCESS_DENIED(HttpStatus.FORBIDDEN, "Access to GPU denied"),
+
+    // Idempotency Errors (4xx)
+    IDEMPOTENCY_KEY_INVALID(HttpStatus.BAD_REQUEST, "Idempotency-Key header is invalid"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key was already used for a different request"),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "A request with this Idempotency-Key is still in progress"),
+    IDEMPOTENCY_REQUEST_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "Request body too large for Idempotency-Key support"),
+    IDEMPOTENCY_RESPONSE_UNAVAILABLE(HttpStatus.CONFLICT,
+            "Request with this Idempotency-Key already ran; its response was too large to store"),
+
+    // Audit Errors (4xx)
+    AUDIT_EXPORT_NOT_FOUND(HttpStatus.NOT_FOUND, "Audit export not found"),
+    AUDIT_EXPORT_LIMIT_REACHED(HttpStatus.TOO_MANY_REQUESTS, "Too many audit exports in progress"),
 
     // System Errors (5xx)
-    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error");
+    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error"),
+    BACKEND_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "Training backend is unavailable"),
+    STREAM_LIMIT_REACHED(HttpStatus.SERVICE_UNAVAILABLE, "Too many streaming responses in progress");
 
     private final HttpStatus httpStatus;
     private final String defaultMessage;
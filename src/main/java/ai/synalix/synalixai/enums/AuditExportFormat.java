@@ -0,0 +1,16 @@
+package ai.synalix.synalixai.enums;
+
+/**
+ * Audit log export file format enumeration; exports are always gzip-compressed
+ */
+public enum AuditExportFormat {
+    /**
+     * One JSON object per line
+     */
+    NDJSON,
+
+    /**
+     * Comma-separated values with a header row
+     */
+    CSV
+}
@@ -0,0 +1,26 @@
+package ai.synalix.synalixai.enums;
+
+/**
+ * Audit log export job status enumeration
+ */
+public enum AuditExportStatus {
+    /**
+     * Waiting for a free export worker
+     */
+    PENDING,
+
+    /**
+     * Streaming rows to object storage
+     */
+    RUNNING,
+
+    /**
+     * Uploaded; the download URL is available
+     */
+    COMPLETED,
+
+    /**
+     * Aborted; nothing was stored
+     */
+    FAILED
+}
@@ -0,0 +1,16 @@
+package ai.synalix.synalixai.enums;
+
+/**
+ * Idempotency record status enumeration
+ */
+public enum IdempotencyStatus {
+    /**
+     * First request with the key is still executing
+     */
+    IN_PROGRESS,
+
+    /**
+     * Response has been stored and is replayed for duplicates
+     */
+    COMPLETED
+}
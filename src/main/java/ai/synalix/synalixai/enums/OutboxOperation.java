@@ -0,0 +1,16 @@
+package ai.synalix.synalixai.enums;
+
+/**
+ * Backend call recorded in the task outbox
+ */
+public enum OutboxOperation {
+    /**
+     * Submit the task to /api/train or /api/infer
+     */
+    SUBMIT,
+
+    /**
+     * Cancel the task via /api/tasks/cancel
+     */
+    CANCEL
+}
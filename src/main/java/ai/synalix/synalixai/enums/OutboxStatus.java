@@ -0,0 +1,21 @@
+package ai.synalix.synalixai.enums;
+
+/**
+ * Task outbox entry status enumeration
+ */
+public enum OutboxStatus {
+    /**
+     * Waiting to be delivered or retried
+     */
+    PENDING,
+
+    /**
+     * Delivered to the backend
+     */
+    DELIVERED,
+
+    /**
+     * Gave up after the maximum number of attempts
+     */
+    FAILED
+}
@@ -0,0 +1,21 @@
+package ai.synalix.synalixai.enums;
+
+/**
+ * Resolution of GPU telemetry history
+ */
+public enum TelemetryResolution {
+    /**
+     * Individual samples from the in-memory ring buffer
+     */
+    RAW,
+
+    /**
+     * One-minute aggregates
+     */
+    MINUTE,
+
+    /**
+     * One-hour aggregates
+     */
+    HOUR
+}
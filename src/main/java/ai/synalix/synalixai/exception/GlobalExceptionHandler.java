@@ -7,7 +7,9 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
@@ -194,6 +196,28 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handle streaming responses rejected because the MVC async executor is saturated
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ApiErrorResponse> handleTaskRejected(TaskRejectedException ex, HttpServletRequest request) {
+        var errorCode = ApiErrorCode.STREAM_LIMIT_REACHED;
+        ApiErrorResponse errorResponse = new ApiErrorResponse(
+                errorCode.getStatusCode(),
+                errorCode.getHttpStatus().getReasonPhrase(),
+                errorCode.name(),
+                errorCode.getDefaultMessage(),
+                request.getRequestURI()
+        );
+
+        logger.warn("Streaming response rejected, executor saturated at {}", request.getRequestURI());
+
+        // The stream already set text/event-stream; the error body is JSON
+        return ResponseEntity.status(errorCode.getHttpStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorResponse);
+    }
+
     /**
      * Handle all other unexpected exceptions
      */
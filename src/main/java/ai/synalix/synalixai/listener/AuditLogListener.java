@@ -3,52 +3,157 @@ package ai.synalix.synalixai.listener;
 import ai.synalix.synalixai.dto.AuditLogMessage;
 import ai.synalix.synalixai.entity.AuditLog;
 import ai.synalix.synalixai.repository.AuditLogRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
 /**
- * RabbitMQ listener for processing audit log messages
+ * RabbitMQ listener for processing audit log messages.
+ * <p>
+ * Messages arrive in batches and are inserted with one JDBC-batched transaction per batch; the whole
+ * batch is acknowledged together once the listener returns. Rows keep the producer's event id and time,
+ * and an event that was already stored is skipped, so redelivered messages are not duplicated. A message
+ * that cannot be parsed, or that the database rejects for its content, is moved to the audit dead-letter
+ * queue so the rest of the batch still goes through. Transient and connection failures are not the
+ * message's fault: the listener rethrows them and the container requeues the batch.
  */
 @Component
 public class AuditLogListener {
 
     private static final Logger logger = LoggerFactory.getLogger(AuditLogListener.class);
 
+    /**
+     * Header carrying the reason a message was dead-lettered
+     */
+    private static final String DEAD_LETTER_REASON_HEADER = "x-dead-letter-reason";
+
+    /**
+     * SQLState class of connection errors
+     */
+    private static final String SQL_STATE_CONNECTION_EXCEPTION = "08";
+
     private final AuditLogRepository auditLogRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
 
-    public AuditLogListener(AuditLogRepository auditLogRepository) {
+    @Value("${audit.queue.name}.dlq")
+    private String deadLetterQueueName;
+
+    public AuditLogListener(AuditLogRepository auditLogRepository, TransactionTemplate transactionTemplate,
+                            RabbitTemplate rabbitTemplate, ObjectMapper objectMapper) {
         this.auditLogRepository = auditLogRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.rabbitTemplate = rabbitTemplate;
+        this.objectMapper = objectMapper;
     }
 
     /**
-     * Process audit log messages from RabbitMQ queue
+     * Process a batch of audit log messages from RabbitMQ queue
      */
-    @RabbitListener(queues = "${audit.queue.name}")
-    @Transactional
-    public void handleAuditLogMessage(AuditLogMessage message) {
+    @RabbitListener(queues = "${audit.queue.name}", containerFactory = "auditBatchListenerContainerFactory")
+    public void handleAuditLogMessages(List<Message> messages) {
+        var parsed = new ArrayList<AuditLogMessage>(messages.size());
+        var sources = new ArrayList<Message>(messages.size());
+        for (var message : messages) {
+            try {
+                parsed.add(objectMapper.readValue(message.getBody(), AuditLogMessage.class));
+                sources.add(message);
+            } catch (IOException e) {
+                deadLetter(message, e);
+            }
+        }
+        if (parsed.isEmpty()) {
+            return;
+        }
+
         try {
-            logger.debug("Processing audit log message: {}", message);
-
-            // Convert DTO to entity
-            AuditLog auditLog = new AuditLog();
-            auditLog.setOperationType(message.getOperationType());
-            auditLog.setUserId(message.getUserId());
-            auditLog.setResourceId(message.getResourceId());
-            auditLog.setDetails(message.getDetails());
-
-            // Save to database
-            auditLogRepository.save(auditLog);
-            
-            logger.info("Audit log processed successfully: operation={}, userId={}, resourceId={}", 
-                    message.getOperationType(), message.getUserId(), message.getResourceId());
-
-        } catch (Exception e) {
-            logger.error("Failed to process audit log message: {}", message, e);
-            // Note: In production, you might want to implement dead letter queue handling
-            throw e; // Re-throw to trigger retry mechanism if configured
+            transactionTemplate.executeWithoutResult(status ->
+                    auditLogRepository.insertIgnoringDuplicates(parsed.stream().map(this::toAuditLog).toList()));
+        } catch (RuntimeException e) {
+            if (isTransient(e)) {
+                throw e;
+            }
+            // Isolate the failing messages: store the rest one by one, dead-letter the failures
+            logger.warn("Audit log batch insert failed, retrying individually: size={}, error={}",
+                    parsed.size(), e.getMessage());
+            for (var i = 0; i < parsed.size(); i++) {
+                var auditLog = toAuditLog(parsed.get(i));
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            auditLogRepository.insertIgnoringDuplicates(List.of(auditLog)));
+                } catch (RuntimeException ex) {
+                    if (isTransient(ex)) {
+                        // Rows stored so far are skipped as duplicates when the batch is redelivered
+                        throw ex;
+                    }
+                    deadLetter(sources.get(i), ex);
+                }
+            }
+        }
+
+        logger.debug("Audit log batch processed: received={}, stored={}", messages.size(), parsed.size());
+    }
+
+    /**
+     * Whether the failure comes from the database being unreachable or temporarily unable to serve, rather
+     * than from the rows themselves
+     */
+    static boolean isTransient(Throwable e) {
+        for (var cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof CannotCreateTransactionException) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException && sqlException.getSQLState() != null
+                    && sqlException.getSQLState().startsWith(SQL_STATE_CONNECTION_EXCEPTION)) {
+                return true;
+            }
         }
+        return false;
+    }
+
+    /**
+     * Convert DTO to entity
+     */
+    private AuditLog toAuditLog(AuditLogMessage message) {
+        var auditLog = new AuditLog();
+        // Messages from older producers have neither; they are stored as new events at receipt time
+        auditLog.setId(message.getEventId() != null ? message.getEventId() : UUID.randomUUID());
+        if (message.getOccurredAt() != null) {
+            auditLog.setTimestamp(message.getOccurredAt());
+        }
+        auditLog.setOperationType(message.getOperationType());
+        auditLog.setUserId(message.getUserId());
+        auditLog.setResourceId(message.getResourceId());
+        auditLog.setDetails(message.getDetails());
+        return auditLog;
+    }
+
+    /**
+     * Move a message to the dead-letter queue unchanged, recording why it failed
+     */
+    private void deadLetter(Message message, Exception cause) {
+        logger.error("Failed to process audit log message, moving to {}: {}", deadLetterQueueName, cause.getMessage());
+        message.getMessageProperties().setHeader(DEAD_LETTER_REASON_HEADER, String.valueOf(cause.getMessage()));
+        rabbitTemplate.send("", deadLetterQueueName, message);
     }
-}
\ No newline at end of file
+}
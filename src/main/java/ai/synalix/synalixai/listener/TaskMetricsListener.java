@@ -0,0 +1,32 @@
+package ai.synalix.synalixai.listener;
+
+import ai.synalix.synalixai.dto.task.TaskMetricMessage;
+import ai.synalix.synalixai.service.TaskMetricsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * RabbitMQ listener for per-step training metrics pushed by the backend
+ */
+@Component
+public class TaskMetricsListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskMetricsListener.class);
+
+    private final TaskMetricsService taskMetricsService;
+
+    public TaskMetricsListener(TaskMetricsService taskMetricsService) {
+        this.taskMetricsService = taskMetricsService;
+    }
+
+    /**
+     * Process metric messages from RabbitMQ queue
+     */
+    @RabbitListener(queues = "${metrics.queue.name}")
+    public void handleMetricMessage(TaskMetricMessage message) {
+        logger.debug("Processing metric message: task={}, step={}", message.getExternalTaskId(), message.getStep());
+        taskMetricsService.ingest(message);
+    }
+}
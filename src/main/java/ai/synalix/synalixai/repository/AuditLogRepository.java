@@ -15,7 +15,7 @@ import java.util.UUID;
  * Audit log data access layer interface
  */
 @Repository
-public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
+public interface AuditLogRepository extends JpaRepository<AuditLog, UUID>, AuditLogRepositoryCustom {
 
     /**
      * Find audit logs by user ID
@@ -58,10 +58,4 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
      * Count audit logs by user ID
      */
     long countByUserId(UUID userId);
-
-    /**
-     * Find audit logs older than specified time
-     */
-    @Query("SELECT al FROM AuditLog al WHERE al.timestamp <= :cutoffTime")
-    List<AuditLog> findLogsOlderThan(@Param("cutoffTime") LocalDateTime cutoffTime);
 }
\ No newline at end of file
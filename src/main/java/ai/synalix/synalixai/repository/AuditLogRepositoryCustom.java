@@ -0,0 +1,37 @@
+package ai.synalix.synalixai.repository;
+
+import ai.synalix.synalixai.dto.audit.AuditLogFilter;
+import ai.synalix.synalixai.dto.audit.AuditLogResponse;
+import ai.synalix.synalixai.entity.AuditLog;
+import ai.synalix.synalixai.util.KeysetCursor;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Filtered keyset and streaming queries over audit logs, and duplicate-tolerant inserts
+ */
+public interface AuditLogRepositoryCustom {
+
+    /**
+     * Audit logs matching the filter, newest first, strictly after the given (timestamp, id) position
+     *
+     * @param after position of the last row of the previous page, or null for the first page
+     * @param limit maximum number of rows
+     */
+    List<AuditLogResponse> findPage(AuditLogFilter filter, KeysetCursor.Position after, int limit);
+
+    /**
+     * Pass every audit log matching the filter to the consumer, oldest first, without holding them in memory.
+     * Must run inside a transaction, otherwise the driver reads the whole result set at once.
+     */
+    void streamAll(AuditLogFilter filter, Consumer<AuditLogResponse> consumer);
+
+    /**
+     * Insert audit logs with their ids and timestamps as given, skipping rows whose (id, timestamp) already
+     * exists, so a redelivered message is stored once
+     *
+     * @return number of rows actually inserted
+     */
+    int insertIgnoringDuplicates(List<AuditLog> auditLogs);
+}
@@ -0,0 +1,175 @@
+package ai.synalix.synalixai.repository;
+
+import ai.synalix.synalixai.dto.audit.AuditLogFilter;
+import ai.synalix.synalixai.dto.audit.AuditLogResponse;
+import ai.synalix.synalixai.entity.AuditLog;
+import ai.synalix.synalixai.enums.AuditOperationType;
+import ai.synalix.synalixai.util.KeysetCursor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * JDBC implementation of {@link AuditLogRepositoryCustom}.
+ * <p>
+ * Only the filters that are set become predicates, so each query shape can use its own
+ * (column, timestamp DESC, id DESC) index; the details containment uses the GIN index on details.
+ * Timestamp bounds are plain comparisons on the partition key so only the matching monthly partitions
+ * are scanned.
+ * <p>
+ * Inserts carry the event id and time chosen by the producer, and ON CONFLICT DO NOTHING makes
+ * redelivered messages no-ops.
+ */
+public class AuditLogRepositoryImpl implements AuditLogRepositoryCustom {
+
+    private static final TypeReference<Map<String, Object>> DETAILS_TYPE = new TypeReference<>() {
+    };
+
+    private static final String SELECT = """
+            SELECT a.id, a.operation_type, a.timestamp, a.resource_id, a.details::text AS details,
+                   COALESCE(a.username, u.username) AS username
+            FROM audit_logs a
+            LEFT JOIN users u ON u.id = a.user_id
+            WHERE TRUE
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_logs (id, operation_type, timestamp, user_id, username, resource_id, details)
+            VALUES (?, ?, ?, ?, ?, ?, CAST(? AS jsonb))
+            ON CONFLICT DO NOTHING
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate streamingTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public AuditLogRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                                  @Value("${app.audit-export.fetch-size}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        // Same data source, but rows are fetched from a server-side cursor in fixed-size chunks
+        var streaming = new JdbcTemplate(jdbcTemplate.getJdbcTemplate().getDataSource());
+        streaming.setFetchSize(fetchSize);
+        this.streamingTemplate = new NamedParameterJdbcTemplate(streaming);
+    }
+
+    @Override
+    public List<AuditLogResponse> findPage(AuditLogFilter filter, KeysetCursor.Position after, int limit) {
+        var sql = new StringBuilder(SELECT);
+        var params = new MapSqlParameterSource();
+        appendFilters(filter, sql, params);
+        if (after != null) {
+            // The row comparison alone does not prune partitions, the redundant bound does
+            sql.append(" AND a.timestamp <= :cursorTimestamp AND (a.timestamp, a.id) < (:cursorTimestamp, :cursorId)");
+            params.addValue("cursorTimestamp", after.timestamp());
+            params.addValue("cursorId", after.id());
+        }
+        sql.append(" ORDER BY a.timestamp DESC, a.id DESC LIMIT :limit");
+        params.addValue("limit", limit);
+
+        return jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> toResponse(rs));
+    }
+
+    @Override
+    public void streamAll(AuditLogFilter filter, Consumer<AuditLogResponse> consumer) {
+        var sql = new StringBuilder(SELECT);
+        var params = new MapSqlParameterSource();
+        appendFilters(filter, sql, params);
+        sql.append(" ORDER BY a.timestamp, a.id");
+
+        streamingTemplate.query(sql.toString(), params, rs -> consumer.accept(toResponse(rs)));
+    }
+
+    @Override
+    public int insertIgnoringDuplicates(List<AuditLog> auditLogs) {
+        if (auditLogs.isEmpty()) {
+            return 0;
+        }
+        var counts = jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_SQL, auditLogs, auditLogs.size(),
+                (ps, auditLog) -> {
+                    ps.setObject(1, auditLog.getId());
+                    ps.setString(2, auditLog.getOperationType().name());
+                    ps.setTimestamp(3, Timestamp.valueOf(auditLog.getTimestamp()));
+                    ps.setObject(4, auditLog.getUserId(), Types.OTHER);
+                    ps.setString(5, auditLog.getUsername());
+                    ps.setString(6, auditLog.getResourceId());
+                    ps.setString(7, auditLog.getDetails() == null ? null : toJson(auditLog.getDetails()));
+                });
+        var inserted = 0;
+        for (var batch : counts) {
+            for (var count : batch) {
+                inserted += Math.max(count, 0);
+            }
+        }
+        return inserted;
+    }
+
+    private String toJson(Map<String, Object> details) throws SQLException {
+        try {
+            return objectMapper.writeValueAsString(details);
+        } catch (JsonProcessingException e) {
+            throw new SQLException("Invalid audit log details", e);
+        }
+    }
+
+    private static void appendFilters(AuditLogFilter filter, StringBuilder sql, MapSqlParameterSource params) {
+        if (filter.userId() != null) {
+            sql.append(" AND a.user_id = :userId");
+            params.addValue("userId", filter.userId());
+        }
+        if (filter.operationType() != null) {
+            sql.append(" AND a.operation_type = :operationType");
+            params.addValue("operationType", filter.operationType().name());
+        }
+        if (filter.resourceId() != null) {
+            sql.append(" AND a.resource_id = :resourceId");
+            params.addValue("resourceId", filter.resourceId());
+        }
+        if (filter.from() != null) {
+            sql.append(" AND a.timestamp >= :from");
+            params.addValue("from", filter.from());
+        }
+        if (filter.to() != null) {
+            sql.append(" AND a.timestamp < :to");
+            params.addValue("to", filter.to());
+        }
+        if (filter.details() != null) {
+            sql.append(" AND a.details @> CAST(:details AS jsonb)");
+            params.addValue("details", filter.details());
+        }
+    }
+
+    private AuditLogResponse toResponse(ResultSet rs) throws SQLException {
+        var response = new AuditLogResponse();
+        response.setId(rs.getObject("id", UUID.class));
+        response.setOperationType(AuditOperationType.valueOf(rs.getString("operation_type")));
+        response.setTimestamp(rs.getObject("timestamp", LocalDateTime.class));
+        response.setResourceId(rs.getString("resource_id"));
+        response.setUsername(rs.getString("username"));
+        var details = rs.getString("details");
+        if (details != null) {
+            try {
+                response.setDetails(objectMapper.readValue(details, DETAILS_TYPE));
+            } catch (JsonProcessingException e) {
+                throw new SQLException("Invalid audit log details", e);
+            }
+        }
+        return response;
+    }
+}
@@ -0,0 +1,80 @@
+package ai.synalix.synalixai.repository;
+
+import ai.synalix.synalixai.entity.GpuTelemetryRollup;
+import ai.synalix.synalixai.enums.TelemetryResolution;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * GPU telemetry rollup repository interface
+ */
+@Repository
+public interface GpuTelemetryRollupRepository extends JpaRepository<GpuTelemetryRollup, UUID> {
+
+    /**
+     * Rollups of one GPU in [from, to), oldest first
+     */
+    @Query("SELECT r FROM GpuTelemetryRollup r WHERE r.gpuId = :gpuId AND r.resolution = :resolution " +
+            "AND r.bucketStart >= :from AND r.bucketStart < :to ORDER BY r.bucketStart ASC")
+    List<GpuTelemetryRollup> findRange(@Param("gpuId") Long gpuId,
+                                       @Param("resolution") TelemetryResolution resolution,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
+    /**
+     * Insert a minute rollup; a bucket already written (e.g. by another instance) is left as is
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO gpu_telemetry_rollups (id, gpu_id, resolution, bucket_start, sample_count, " +
+            "utilization_avg, utilization_max, temperature_avg, temperature_max, memory_used_avg, memory_used_max) " +
+            "VALUES (gen_random_uuid(), :gpuId, 'MINUTE', :bucketStart, :sampleCount, :utilizationAvg, " +
+            ":utilizationMax, :temperatureAvg, :temperatureMax, :memoryUsedAvg, :memoryUsedMax) " +
+            "ON CONFLICT (gpu_id, resolution, bucket_start) DO NOTHING",
+            nativeQuery = true)
+    int insertMinute(@Param("gpuId") Long gpuId,
+                     @Param("bucketStart") LocalDateTime bucketStart,
+                     @Param("sampleCount") int sampleCount,
+                     @Param("utilizationAvg") Double utilizationAvg,
+                     @Param("utilizationMax") Integer utilizationMax,
+                     @Param("temperatureAvg") Double temperatureAvg,
+                     @Param("temperatureMax") Integer temperatureMax,
+                     @Param("memoryUsedAvg") double memoryUsedAvg,
+                     @Param("memoryUsedMax") int memoryUsedMax);
+
+    /**
+     * Aggregate the minute rollups of [hourStart, hourStart + 1h) into hour rollups for every GPU.
+     * Averages are weighted by sample count; hours already rolled up are left as is.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO gpu_telemetry_rollups (id, gpu_id, resolution, bucket_start, sample_count, " +
+            "utilization_avg, utilization_max, temperature_avg, temperature_max, memory_used_avg, memory_used_max) " +
+            "SELECT gen_random_uuid(), gpu_id, 'HOUR', :hourStart, SUM(sample_count), " +
+            "SUM(utilization_avg * sample_count) / NULLIF(SUM(CASE WHEN utilization_avg IS NOT NULL " +
+            "THEN sample_count END), 0), MAX(utilization_max), " +
+            "SUM(temperature_avg * sample_count) / NULLIF(SUM(CASE WHEN temperature_avg IS NOT NULL " +
+            "THEN sample_count END), 0), MAX(temperature_max), " +
+            "SUM(memory_used_avg * sample_count) / SUM(sample_count), MAX(memory_used_max) " +
+            "FROM gpu_telemetry_rollups WHERE resolution = 'MINUTE' " +
+            "AND bucket_start >= :hourStart AND bucket_start < :hourEnd GROUP BY gpu_id " +
+            "ON CONFLICT (gpu_id, resolution, bucket_start) DO NOTHING",
+            nativeQuery = true)
+    int rollUpHour(@Param("hourStart") LocalDateTime hourStart, @Param("hourEnd") LocalDateTime hourEnd);
+
+    /**
+     * Delete rollups of the given resolution older than the cutoff
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM GpuTelemetryRollup r WHERE r.resolution = :resolution AND r.bucketStart < :cutoff")
+    int deleteOlderThan(@Param("resolution") TelemetryResolution resolution, @Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,88 @@
+package ai.synalix.synalixai.repository;
+
+import ai.synalix.synalixai.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Idempotency record repository interface
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, UUID> {
+
+    /**
+     * Claim (user, key) for a new execution. Inserts a fresh record, or takes over an expired one.
+     *
+     * @return 1 if this caller now owns the key, 0 if a live record already exists
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO idempotency_keys " +
+            "(id, user_id, idempotency_key, request_hash, status, created_at, expires_at) " +
+            "VALUES (:id, :userId, :key, :requestHash, 'IN_PROGRESS', :now, :leaseUntil) " +
+            "ON CONFLICT (user_id, idempotency_key) DO UPDATE SET " +
+            "id = EXCLUDED.id, request_hash = EXCLUDED.request_hash, status = 'IN_PROGRESS', " +
+            "response_status = NULL, response_content_type = NULL, response_body = NULL, " +
+            "created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at " +
+            "WHERE idempotency_keys.expires_at < :now",
+            nativeQuery = true)
+    int claim(@Param("id") UUID id,
+              @Param("userId") UUID userId,
+              @Param("key") String key,
+              @Param("requestHash") String requestHash,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    Optional<IdempotencyRecord> findByUserIdAndIdempotencyKey(UUID userId, String idempotencyKey);
+
+    /**
+     * Store the response of a claimed execution
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE IdempotencyRecord r SET r.status = ai.synalix.synalixai.enums.IdempotencyStatus.COMPLETED, " +
+            "r.responseStatus = :status, r.responseContentType = :contentType, r.responseBody = :body, " +
+            "r.expiresAt = :expiresAt WHERE r.id = :id")
+    int complete(@Param("id") UUID id,
+                 @Param("status") int status,
+                 @Param("contentType") String contentType,
+                 @Param("body") byte[] body,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Mark a claimed execution as done without storing its response body, keeping the key claimed
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE IdempotencyRecord r SET r.status = ai.synalix.synalixai.enums.IdempotencyStatus.COMPLETED, " +
+            "r.responseStatus = :status, r.responseOmitted = true, r.expiresAt = :expiresAt WHERE r.id = :id")
+    int completeWithoutBody(@Param("id") UUID id,
+                            @Param("status") int status,
+                            @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Release a claim so the key can be retried, e.g. after a server error
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id")
+    int release(@Param("id") UUID id);
+
+    /**
+     * Delete up to batchSize expired records
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM idempotency_keys WHERE id IN " +
+            "(SELECT id FROM idempotency_keys WHERE expires_at < :now LIMIT :batchSize)",
+            nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,9 +20,9 @@ import java.util.UUID;
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
 
     /**
-     * Find refresh token by token string
+     * Find refresh token by the SHA-256 hash of its value
      */
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
 
     /**
      * Find all tokens by user ID
@@ -51,22 +52,30 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID
      * Revoke specific token
      */
     @Modifying
-    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.token = :token")
-    int revokeTokenByToken(@Param("token") String token);
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.tokenHash = :tokenHash")
+    int revokeTokenByTokenHash(@Param("tokenHash") String tokenHash);
 
     /**
-     * Delete expired tokens
+     * Delete up to batchSize expired tokens
      */
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt <= :expirationTime")
-    int deleteExpiredTokens(@Param("expirationTime") LocalDateTime expirationTime);
+    @Transactional
+    @Query(value = "DELETE FROM refresh_tokens WHERE id IN " +
+            "(SELECT id FROM refresh_tokens WHERE expires_at <= :expirationTime LIMIT :batchSize)",
+            nativeQuery = true)
+    int deleteExpiredTokens(@Param("expirationTime") LocalDateTime expirationTime,
+                            @Param("batchSize") int batchSize);
 
     /**
-     * Delete revoked tokens older than specified time
+     * Delete up to batchSize revoked tokens older than specified time
      */
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.revoked = true AND rt.createdAt <= :cutoffTime")
-    int deleteRevokedTokensOlderThan(@Param("cutoffTime") LocalDateTime cutoffTime);
+    @Transactional
+    @Query(value = "DELETE FROM refresh_tokens WHERE id IN " +
+            "(SELECT id FROM refresh_tokens WHERE revoked = true AND created_at <= :cutoffTime LIMIT :batchSize)",
+            nativeQuery = true)
+    int deleteRevokedTokensOlderThan(@Param("cutoffTime") LocalDateTime cutoffTime,
+                                     @Param("batchSize") int batchSize);
 
     /**
      * Count valid tokens for user
@@ -2,12 +2,44 @@ package ai.synalix.synalixai.repository;
 
 import ai.synalix.synalixai.entity.Resource;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 
 /**
  * Resource repository interface
  */
 @Repository
 public interface ResourceRepository extends JpaRepository<Resource, Long> {
-    
+
+    /**
+     * Insert a GPU or update its stored state
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO resources (id, name, status, memory_total, memory_used, created_at, updated_at) " +
+            "VALUES (:id, :name, :status, :memoryTotal, :memoryUsed, :now, :now) " +
+            "ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name, status = EXCLUDED.status, " +
+            "memory_total = EXCLUDED.memory_total, memory_used = EXCLUDED.memory_used, " +
+            "updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    int upsert(@Param("id") Long id,
+               @Param("name") String name,
+               @Param("status") String status,
+               @Param("memoryTotal") int memoryTotal,
+               @Param("memoryUsed") int memoryUsed,
+               @Param("now") LocalDateTime now);
+
+    /**
+     * Delete GPUs that are no longer reported by the backend
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Resource r WHERE r.id NOT IN :ids")
+    int deleteByIdNotIn(@Param("ids") Collection<Long> ids);
 }
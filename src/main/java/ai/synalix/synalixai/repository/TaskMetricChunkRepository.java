@@ -0,0 +1,34 @@
+package ai.synalix.synalixai.repository;
+
+import ai.synalix.synalixai.entity.TaskMetricChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Task metric chunk repository interface
+ */
+@Repository
+public interface TaskMetricChunkRepository extends JpaRepository<TaskMetricChunk, UUID> {
+
+    /**
+     * Find chunks of a series that overlap the given time range, in step order
+     */
+    @Query("SELECT c FROM TaskMetricChunk c WHERE c.taskId = :taskId AND c.metric = :metric " +
+            "AND c.endTime >= :from AND c.startTime <= :to ORDER BY c.startStep ASC, c.startTime ASC")
+    List<TaskMetricChunk> findOverlapping(@Param("taskId") UUID taskId,
+                                          @Param("metric") String metric,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to);
+
+    /**
+     * Find the most recent chunk of a series
+     */
+    Optional<TaskMetricChunk> findFirstByTaskIdAndMetricOrderByEndTimeDesc(UUID taskId, String metric);
+}
@@ -0,0 +1,52 @@
+package ai.synalix.synalixai.repository;
+
+import ai.synalix.synalixai.entity.TaskOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Task outbox repository interface
+ */
+@Repository
+public interface TaskOutboxRepository extends JpaRepository<TaskOutbox, UUID> {
+
+    /**
+     * Atomically claim up to batchSize due entries for one dispatcher run.
+     * SKIP LOCKED lets several instances claim disjoint batches; the lease makes entries
+     * of a crashed run due again once it expires.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE task_outbox SET claim_token = :token, next_attempt_at = :leaseUntil " +
+            "WHERE id IN (SELECT id FROM task_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at LIMIT :batchSize FOR UPDATE SKIP LOCKED)",
+            nativeQuery = true)
+    int claimBatch(@Param("token") UUID token,
+                   @Param("now") LocalDateTime now,
+                   @Param("leaseUntil") LocalDateTime leaseUntil,
+                   @Param("batchSize") int batchSize);
+
+    /**
+     * Find entries claimed by a dispatcher run, oldest first
+     */
+    List<TaskOutbox> findByClaimTokenOrderByCreatedAtAsc(UUID claimToken);
+
+    /**
+     * Delete up to batchSize delivered or permanently failed entries last updated before the cutoff
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM task_outbox WHERE id IN " +
+            "(SELECT id FROM task_outbox WHERE status IN ('DELIVERED', 'FAILED') AND updated_at < :cutoff " +
+            "LIMIT :batchSize)",
+            nativeQuery = true)
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+}
@@ -1,26 +1,102 @@
 package ai.synalix.synalixai.repository;
 
 import ai.synalix.synalixai.entity.Task;
+import ai.synalix.synalixai.enums.TaskStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Task repository interface
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
-    
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskRepositoryCustom {
+
     /**
      * Find tasks created by a specific user
      */
     List<Task> findByCreatedBy(UUID createdBy);
 
+    /**
+     * Find task by the id assigned by the training backend
+     */
+    Optional<Task> findByExternalTaskId(String externalTaskId);
+
     List<Task> findByStatus(ai.synalix.synalixai.enums.TaskStatus status);
 
     List<Task> findByType(ai.synalix.synalixai.enums.TaskType type);
 
     List<Task> findByStatusAndType(ai.synalix.synalixai.enums.TaskStatus status, ai.synalix.synalixai.enums.TaskType type);
+
+    /**
+     * Find tasks in any of the given statuses that have been submitted to the backend
+     */
+    @Query("SELECT t FROM Task t WHERE t.status IN :statuses AND t.externalTaskId IS NOT NULL")
+    List<Task> findSubmittedByStatusIn(@Param("statuses") Collection<TaskStatus> statuses);
+
+    /**
+     * Bulk update status for the given tasks, skipping rows that have left the expected statuses meanwhile
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :now " +
+            "WHERE t.id IN :ids AND t.status IN :expectedStatuses")
+    int updateStatusByIds(@Param("status") TaskStatus status,
+                          @Param("ids") Collection<UUID> ids,
+                          @Param("expectedStatuses") Collection<TaskStatus> expectedStatuses,
+                          @Param("now") LocalDateTime now);
+
+    /**
+     * Pending tasks waiting for GPU admission, highest priority first then oldest first
+     */
+    @Query("SELECT t FROM Task t WHERE t.status = ai.synalix.synalixai.enums.TaskStatus.PENDING " +
+            "AND t.admittedAt IS NULL ORDER BY t.priority DESC, t.createdAt ASC")
+    List<Task> findAdmissionQueue(Pageable pageable);
+
+    /**
+     * Count tasks holding GPUs per user: running, or admitted and waiting for submission
+     */
+    @Query("SELECT t.createdBy, COUNT(t) FROM Task t " +
+            "WHERE t.status = ai.synalix.synalixai.enums.TaskStatus.RUNNING " +
+            "OR (t.status = ai.synalix.synalixai.enums.TaskStatus.PENDING AND t.admittedAt IS NOT NULL) " +
+            "GROUP BY t.createdBy")
+    List<Object[]> countActiveTasksByUser();
+
+    /**
+     * Tasks admitted since the given time that may still hold their GPUs
+     */
+    List<Task> findByAdmittedAtAfterAndStatusIn(LocalDateTime since, Collection<TaskStatus> statuses);
+
+    /**
+     * Admit a task only if it is still pending and not yet admitted, recording the chosen GPUs in its config
+     *
+     * @param gpuIds JSON array of GPU IDs
+     * @return 1 if this call admitted the task, 0 if it was stopped or admitted elsewhere
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(value = "UPDATE tasks SET admitted_at = :now, updated_at = :now, " +
+            "config = jsonb_set(COALESCE(config, CAST('{}' AS jsonb)), '{gpuIds}', CAST(:gpuIds AS jsonb)) " +
+            "WHERE id = :id AND status = 'PENDING' AND admitted_at IS NULL", nativeQuery = true)
+    int admitPending(@Param("id") UUID id, @Param("gpuIds") String gpuIds, @Param("now") LocalDateTime now);
+
+    /**
+     * Record the id assigned by the backend without touching other columns
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Task t SET t.externalTaskId = :externalTaskId, t.updatedAt = :now WHERE t.id = :id")
+    int updateExternalTaskId(@Param("id") UUID id,
+                             @Param("externalTaskId") String externalTaskId,
+                             @Param("now") LocalDateTime now);
 }
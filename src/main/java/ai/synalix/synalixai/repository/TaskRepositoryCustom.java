@@ -0,0 +1,28 @@
+package ai.synalix.synalixai.repository;
+
+import ai.synalix.synalixai.dto.task.TaskSummary;
+import ai.synalix.synalixai.enums.TaskStatus;
+import ai.synalix.synalixai.enums.TaskType;
+import ai.synalix.synalixai.util.KeysetCursor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Filtered keyset queries over tasks
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Task summaries matching the filters that are set, newest first, strictly after the given
+     * (createdAt, id) position
+     *
+     * @param status    status filter, or null for any
+     * @param type      type filter, or null for any
+     * @param createdBy creator filter, or null for any
+     * @param after     position of the last row of the previous page, or null for the first page
+     * @param limit     maximum number of rows
+     */
+    List<TaskSummary> findSummaries(TaskStatus status, TaskType type, UUID createdBy,
+                                    KeysetCursor.Position after, int limit);
+}
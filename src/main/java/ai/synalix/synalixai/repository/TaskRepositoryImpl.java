@@ -0,0 +1,98 @@
+package ai.synalix.synalixai.repository;
+
+import ai.synalix.synalixai.dto.task.TaskSummary;
+import ai.synalix.synalixai.enums.TaskStatus;
+import ai.synalix.synalixai.enums.TaskType;
+import ai.synalix.synalixai.util.KeysetCursor;
+import lombok.Value;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of {@link TaskRepositoryCustom}.
+ * <p>
+ * Only the filters that are set become predicates, so the planner sees a concrete query per filter
+ * combination instead of catch-all {@code (:x IS NULL OR ...)} terms it cannot match to an index.
+ * Status, type, creator and status plus type each have a (column..., created_at DESC, id DESC) index
+ * that serves both the filter and the keyset order. Other combinations with the creator use the creator
+ * index and filter the remaining columns, which stays cheap since one user's tasks are few.
+ */
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    private static final String SELECT = """
+            SELECT t.id, t.name, t.type, t.status, t.model_id, t.dataset_id, t.created_by,
+                   t.created_at, t.updated_at, t.priority
+            FROM tasks t
+            WHERE TRUE
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public TaskRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<TaskSummary> findSummaries(TaskStatus status, TaskType type, UUID createdBy,
+                                           KeysetCursor.Position after, int limit) {
+        var sql = new StringBuilder(SELECT);
+        var params = new MapSqlParameterSource();
+        if (status != null) {
+            sql.append(" AND t.status = :status");
+            params.addValue("status", status.name());
+        }
+        if (type != null) {
+            sql.append(" AND t.type = :type");
+            params.addValue("type", type.name());
+        }
+        if (createdBy != null) {
+            sql.append(" AND t.created_by = :createdBy");
+            params.addValue("createdBy", createdBy);
+        }
+        if (after != null) {
+            sql.append(" AND (t.created_at, t.id) < (:cursorCreatedAt, :cursorId)");
+            params.addValue("cursorCreatedAt", after.timestamp());
+            params.addValue("cursorId", after.id());
+        }
+        sql.append(" ORDER BY t.created_at DESC, t.id DESC LIMIT :limit");
+        params.addValue("limit", limit);
+
+        return jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> toSummary(rs));
+    }
+
+    private static TaskSummary toSummary(ResultSet rs) throws SQLException {
+        return new Row(
+                rs.getObject("id", UUID.class),
+                rs.getString("name"),
+                TaskType.valueOf(rs.getString("type")),
+                TaskStatus.valueOf(rs.getString("status")),
+                rs.getObject("model_id", UUID.class),
+                rs.getObject("dataset_id", UUID.class),
+                rs.getObject("created_by", UUID.class),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class),
+                rs.getObject("priority", Integer.class));
+    }
+
+    @Value
+    private static class Row implements TaskSummary {
+        UUID id;
+        String name;
+        TaskType type;
+        TaskStatus status;
+        UUID modelId;
+        UUID datasetId;
+        UUID createdBy;
+        LocalDateTime createdAt;
+        LocalDateTime updatedAt;
+        Integer priority;
+    }
+}
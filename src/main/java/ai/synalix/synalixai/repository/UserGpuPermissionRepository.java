@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,7 +15,8 @@ import java.util.UUID;
  * User GPU permission repository interface
  */
 @Repository
-public interface UserGpuPermissionRepository extends JpaRepository<UserGpuPermission, Long> {
+public interface UserGpuPermissionRepository extends JpaRepository<UserGpuPermission, Long>,
+        UserGpuPermissionRepositoryCustom {
 
     /**
      * Find all permissions for a specific user
@@ -38,5 +40,16 @@ public interface UserGpuPermissionRepository extends JpaRepository<UserGpuPermis
      */
     @Query("SELECT u.gpuId FROM UserGpuPermission u WHERE u.userId = :userId")
     List<Long> findGpuIdsByUserId(@Param("userId") UUID userId);
+
+    /**
+     * All (userId, gpuId) pairs of users that still exist, for building the permission index
+     */
+    @Query("SELECT p.userId, p.gpuId FROM UserGpuPermission p JOIN User u ON u.id = p.userId")
+    List<Object[]> findAllUserGpuPairs();
+
+    /**
+     * Find all permissions for the given users
+     */
+    List<UserGpuPermission> findByUserIdIn(Collection<UUID> userIds);
 }
 
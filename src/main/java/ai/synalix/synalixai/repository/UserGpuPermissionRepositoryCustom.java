@@ -0,0 +1,25 @@
+package ai.synalix.synalixai.repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Batched write operations for user GPU permissions
+ */
+public interface UserGpuPermissionRepositoryCustom {
+
+    /**
+     * Insert the given (user, GPU) grants with JDBC batching; grants that already exist are skipped
+     *
+     * @return number of rows inserted
+     */
+    int batchInsert(Map<UUID, ? extends Collection<Long>> grants);
+
+    /**
+     * Delete the given (user, GPU) grants with JDBC batching
+     *
+     * @return number of rows deleted
+     */
+    int batchDelete(Map<UUID, ? extends Collection<Long>> revocations);
+}
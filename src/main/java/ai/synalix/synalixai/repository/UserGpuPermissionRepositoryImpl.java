@@ -0,0 +1,79 @@
+package ai.synalix.synalixai.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+/**
+ * JDBC implementation of {@link UserGpuPermissionRepositoryCustom}.
+ * <p>
+ * Permission ids use IDENTITY generation, which keeps Hibernate from batching inserts, so the rows are
+ * written with {@link JdbcTemplate#batchUpdate} instead. Statements join the surrounding JPA transaction.
+ */
+public class UserGpuPermissionRepositoryImpl implements UserGpuPermissionRepositoryCustom {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO user_gpu_permissions (user_id, gpu_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (user_id, gpu_id) DO NOTHING
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM user_gpu_permissions WHERE user_id = ? AND gpu_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    @Autowired
+    public UserGpuPermissionRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                           @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public int batchInsert(Map<UUID, ? extends Collection<Long>> grants) {
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        var rows = toRows(grants);
+        return execute(INSERT_SQL, rows, row -> new Object[]{row[0], row[1], now, now});
+    }
+
+    @Override
+    public int batchDelete(Map<UUID, ? extends Collection<Long>> revocations) {
+        return execute(DELETE_SQL, toRows(revocations), row -> row);
+    }
+
+    private int execute(String sql, List<Object[]> rows, UnaryOperator<Object[]> toArgs) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        var affected = 0;
+        var counts = jdbcTemplate.batchUpdate(sql, rows, batchSize, (ps, row) -> {
+            var args = toArgs.apply(row);
+            for (var i = 0; i < args.length; i++) {
+                ps.setObject(i + 1, args[i]);
+            }
+        });
+        for (var batch : counts) {
+            for (var count : batch) {
+                // SUCCESS_NO_INFO (-2) still means the statement was applied
+                affected += count >= 0 ? count : 1;
+            }
+        }
+        return affected;
+    }
+
+    private static List<Object[]> toRows(Map<UUID, ? extends Collection<Long>> pairs) {
+        var rows = new ArrayList<Object[]>();
+        pairs.forEach((userId, gpuIds) -> gpuIds.forEach(gpuId -> rows.add(new Object[]{userId, gpuId})));
+        return rows;
+    }
+}
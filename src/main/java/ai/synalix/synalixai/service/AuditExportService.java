@@ -0,0 +1,311 @@
+package ai.synalix.synalixai.service;
+
+import ai.synalix.synalixai.config.MinioConfig;
+import ai.synalix.synalixai.dto.audit.AuditExportRequest;
+import ai.synalix.synalixai.dto.audit.AuditExportResponse;
+import ai.synalix.synalixai.dto.audit.AuditLogFilter;
+import ai.synalix.synalixai.dto.audit.AuditLogResponse;
+import ai.synalix.synalixai.enums.ApiErrorCode;
+import ai.synalix.synalixai.enums.AuditExportFormat;
+import ai.synalix.synalixai.enums.AuditExportStatus;
+import ai.synalix.synalixai.exception.ApiException;
+import ai.synalix.synalixai.repository.AuditLogRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Exports audit logs to object storage as gzip-compressed NDJSON or CSV.
+ * <p>
+ * Each export runs on the audit export executor. Rows are read through a server-side cursor with a fixed
+ * fetch size, written through gzip into a pipe, and a companion thread uploads the pipe's other end to
+ * MinIO as a multipart upload. Memory use is bounded by the fetch size, the pipe buffer and one upload
+ * part, whatever the number of rows. Jobs are tracked in memory until their download URL expires.
+ */
+@Service
+public class AuditExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditExportService.class);
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+    private static final String CONTENT_TYPE = "application/gzip";
+    private static final String CSV_HEADER = "id,timestamp,operation_type,username,resource_id,details\n";
+
+    private final AuditLogRepository auditLogRepository;
+    private final AuditService auditService;
+    private final MinioService minioService;
+    private final MinioConfig minioConfig;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Executor exportExecutor;
+    private final Map<UUID, Job> jobs = new ConcurrentHashMap<>();
+
+    @Value("${app.audit-export.part-size-bytes}")
+    private long partSizeBytes;
+
+    @Autowired
+    public AuditExportService(AuditLogRepository auditLogRepository, AuditService auditService,
+                              MinioService minioService, MinioConfig minioConfig, ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              @Qualifier("auditExportExecutor") Executor exportExecutor) {
+        this.auditLogRepository = auditLogRepository;
+        this.auditService = auditService;
+        this.minioService = minioService;
+        this.minioConfig = minioConfig;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.exportExecutor = exportExecutor;
+    }
+
+    private static final class Job {
+        private final UUID id = UUID.randomUUID();
+        private final AuditExportFormat format;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private volatile AuditExportStatus status = AuditExportStatus.PENDING;
+        private volatile long rowCount;
+        private volatile String downloadUrl;
+        private volatile LocalDateTime downloadUrlExpiresAt;
+        private volatile String error;
+        private volatile LocalDateTime completedAt;
+
+        private Job(AuditExportFormat format) {
+            this.format = format;
+        }
+    }
+
+    /**
+     * Input side of the pipe; once aborted, reads fail so the upload is abandoned instead of completed
+     * with a truncated file
+     */
+    private static final class AbortableInputStream extends FilterInputStream {
+        private volatile boolean aborted;
+
+        private AbortableInputStream(InputStream in) {
+            super(in);
+        }
+
+        private void abort() {
+            aborted = true;
+        }
+
+        @Override
+        public int read() throws IOException {
+            var value = super.read();
+            checkAborted();
+            return value;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            var count = super.read(b, off, len);
+            checkAborted();
+            return count;
+        }
+
+        private void checkAborted() throws IOException {
+            if (aborted) {
+                throw new IOException("Audit export aborted");
+            }
+        }
+    }
+
+    /**
+     * Start exporting the audit logs matching the request's filters; returns immediately
+     *
+     * @param requestedBy the admin requesting the export
+     */
+    public AuditExportResponse startExport(AuditExportRequest request, UUID requestedBy) {
+        var filter = request.toFilter();
+        auditService.validateFilter(filter);
+        evictExpired();
+
+        var job = new Job(request.getFormat());
+        jobs.put(job.id, job);
+        try {
+            exportExecutor.execute(() -> run(job, filter));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.id);
+            throw new ApiException(ApiErrorCode.AUDIT_EXPORT_LIMIT_REACHED);
+        }
+        logger.info("Audit export started: exportId={}, format={}, requestedBy={}", job.id, job.format, requestedBy);
+        return toResponse(job);
+    }
+
+    /**
+     * Current state of an export
+     */
+    public AuditExportResponse getExport(UUID exportId) {
+        evictExpired();
+        var job = jobs.get(exportId);
+        if (job == null) {
+            throw new ApiException(ApiErrorCode.AUDIT_EXPORT_NOT_FOUND, Map.of("exportId", exportId.toString()));
+        }
+        return toResponse(job);
+    }
+
+    private void run(Job job, AuditLogFilter filter) {
+        job.status = AuditExportStatus.RUNNING;
+        var storageKey = minioService.generateAuditExportStorageKey(job.id, extension(job.format));
+        try {
+            export(job, filter, storageKey);
+            var url = minioService.generateAuditExportDownloadUrl(storageKey);
+            job.downloadUrl = url.getUrl();
+            job.downloadUrlExpiresAt = url.getExpiresAt();
+            job.status = AuditExportStatus.COMPLETED;
+            logger.info("Audit export completed: exportId={}, rows={}", job.id, job.rowCount);
+        } catch (Exception e) {
+            job.error = e.getMessage();
+            job.status = AuditExportStatus.FAILED;
+            logger.error("Audit export failed: exportId={}, rows={}, error={}", job.id, job.rowCount, e.getMessage());
+        } finally {
+            job.completedAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * Stream the rows into the pipe on this thread while the uploader thread drains it into object storage
+     */
+    private void export(Job job, AuditLogFilter filter, String storageKey) throws Exception {
+        var pipeInput = new PipedInputStream(BUFFER_BYTES);
+        var input = new AbortableInputStream(pipeInput);
+        var output = new PipedOutputStream(pipeInput);
+        var upload = new FutureTask<Void>(() -> {
+            try (input) {
+                minioService.uploadAuditExport(storageKey, input, CONTENT_TYPE, partSizeBytes);
+            }
+            return null;
+        });
+        var uploader = new Thread(upload, "Audit-export-upload-" + job.id);
+        uploader.setDaemon(true);
+        uploader.start();
+
+        Exception failure = null;
+        try (var writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(output, BUFFER_BYTES), StandardCharsets.UTF_8), BUFFER_BYTES)) {
+            try {
+                writeRows(job, filter, writer);
+            } catch (IOException | RuntimeException e) {
+                // Abort before closing the writer, which would otherwise end the upload normally
+                input.abort();
+                throw e;
+            }
+        } catch (IOException | RuntimeException e) {
+            failure = e;
+        }
+
+        try {
+            upload.get();
+        } catch (ExecutionException e) {
+            // A write error on the pipe means the upload failed first, so its cause is the useful one
+            if (failure == null || failure instanceof IOException) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void writeRows(Job job, AuditLogFilter filter, Writer writer) throws IOException {
+        if (job.format == AuditExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+        }
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> auditLogRepository.streamAll(filter, row -> {
+                try {
+                    writeRow(job.format, row, writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                job.rowCount++;
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeRow(AuditExportFormat format, AuditLogResponse row, Writer writer) throws IOException {
+        if (format == AuditExportFormat.NDJSON) {
+            writer.write(objectMapper.writeValueAsString(row));
+            writer.write('\n');
+            return;
+        }
+        writer.write(row.getId().toString());
+        writer.write(',');
+        writer.write(row.getTimestamp().toString());
+        writer.write(',');
+        writer.write(row.getOperationType().name());
+        writer.write(',');
+        writer.write(csvField(row.getUsername()));
+        writer.write(',');
+        writer.write(csvField(row.getResourceId()));
+        writer.write(',');
+        writer.write(csvField(row.getDetails() == null ? null : objectMapper.writeValueAsString(row.getDetails())));
+        writer.write('\n');
+    }
+
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        var needsQuoting = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        return !needsQuoting ? value : '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String extension(AuditExportFormat format) {
+        return switch (format) {
+            case NDJSON -> ".ndjson.gz";
+            case CSV -> ".csv.gz";
+        };
+    }
+
+    /**
+     * Forget finished jobs whose download URL can no longer be used
+     */
+    private void evictExpired() {
+        var cutoff = LocalDateTime.now().minusSeconds(minioConfig.getPresignedUrlDownloadExpiry());
+        jobs.values().removeIf(job -> job.completedAt != null && job.completedAt.isBefore(cutoff));
+    }
+
+    private AuditExportResponse toResponse(Job job) {
+        var response = new AuditExportResponse();
+        response.setId(job.id);
+        response.setStatus(job.status);
+        response.setFormat(job.format);
+        response.setRowCount(job.rowCount);
+        response.setDownloadUrl(job.downloadUrl);
+        response.setDownloadUrlExpiresAt(job.downloadUrlExpiresAt);
+        response.setError(job.error);
+        response.setCreatedAt(job.createdAt);
+        response.setCompletedAt(job.completedAt);
+        return response;
+    }
+}
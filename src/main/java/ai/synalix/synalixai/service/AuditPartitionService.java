@@ -0,0 +1,407 @@
+package ai.synalix.synalixai.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps {@code audit_logs} range-partitioned by month on {@code timestamp}.
+ * <p>
+ * After startup a plain table (as created by Hibernate) is converted in place, in the background. The slow
+ * work runs first without blocking writers: the {@code (id, timestamp)} key and the audit log indexes are
+ * built concurrently and a {@code timestamp} upper-bound CHECK constraint is validated. A short exclusive
+ * swap then renames the table to {@code audit_logs_legacy} and attaches it as the partition for everything
+ * before the month after next, reusing those indexes and skipping the validation scan. An empty table is
+ * dropped instead. The monthly partitions up to {@code months-ahead} are created in the same transaction,
+ * so inserts never find the table without a partition. Legacy rows form a single partition, so retention
+ * can only drop them once that whole range has expired.
+ * <p>
+ * A periodic job pre-creates the monthly partitions ahead of time and enforces retention by detaching and
+ * dropping whole partitions instead of deleting rows. The partitioned table owns the audit log indexes,
+ * which every partition inherits.
+ */
+@Service
+public class AuditPartitionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditPartitionService.class);
+
+    private static final String TABLE = "audit_logs";
+    private static final String LEGACY_PARTITION = "audit_logs_legacy";
+    private static final String LEGACY_KEY = "audit_logs_id_timestamp_key";
+    private static final String LEGACY_BOUND = "audit_logs_legacy_bound";
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("audit_logs_p(\\d{4})(\\d{2})");
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('(\\d{4}-\\d{2}-\\d{2})");
+    private static final Pattern CHECK_BOUND = Pattern.compile("'(\\d{4}-\\d{2}-\\d{2})");
+
+    /**
+     * Serializes conversion and maintenance across application instances
+     */
+    private static final long ADVISORY_LOCK_KEY = 0x6175646974L;
+
+    /**
+     * Audit log indexes by name, as the part of the definition after the index name
+     */
+    private static final Map<String, String> INDEXES = Map.of(
+            "idx_audit_logs_timestamp_id", "ON audit_logs (\"timestamp\" DESC, id DESC)",
+            "idx_audit_logs_user_timestamp_id", "ON audit_logs (user_id, \"timestamp\" DESC, id DESC)",
+            "idx_audit_logs_operation_timestamp_id", "ON audit_logs (operation_type, \"timestamp\" DESC, id DESC)",
+            "idx_audit_logs_resource_timestamp_id", "ON audit_logs (resource_id, \"timestamp\" DESC, id DESC)",
+            "idx_audit_logs_details", "ON audit_logs USING GIN (details jsonb_path_ops)");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.audit-partitions.months-ahead}")
+    private int monthsAhead;
+
+    @Value("${app.audit-partitions.retention-months}")
+    private int retentionMonths;
+
+    @Value("${app.audit-partitions.lock-timeout-ms}")
+    private long lockTimeoutMs;
+
+    @Autowired
+    public AuditPartitionService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Convert the table if needed, then create the partitions for the coming months; runs off the startup
+     * thread because preparing a large table takes as long as building its indexes
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            // Concurrent index builds cannot run in a transaction, so the whole conversion holds a session
+            // lock on one connection instead
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                var session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+                if (!Boolean.TRUE.equals(session.queryForObject(
+                        "SELECT pg_try_advisory_lock(?)", Boolean.class, ADVISORY_LOCK_KEY))) {
+                    logger.info("Audit log partitioning is handled by another instance");
+                    return null;
+                }
+                try {
+                    ensurePartitioned(session, connection);
+                } finally {
+                    session.queryForObject("SELECT pg_advisory_unlock(?)", Boolean.class, ADVISORY_LOCK_KEY);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            logger.error("Audit log partitioning failed: {}", e.getMessage());
+            return;
+        }
+        maintain();
+    }
+
+    /**
+     * Create missing partitions up to {@code months-ahead} months from now and drop partitions that lie
+     * entirely before the retention window
+     */
+    @Scheduled(fixedDelayString = "${app.audit-partitions.maintenance-interval-ms}",
+            initialDelayString = "${app.audit-partitions.maintenance-interval-ms}")
+    public void maintain() {
+        try {
+            if (!"p".equals(relationKind(jdbcTemplate))) {
+                return;
+            }
+            createFuturePartitions();
+            dropExpiredPartitions();
+        } catch (DataAccessException e) {
+            logger.error("Audit log partition maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    private void ensurePartitioned(JdbcTemplate session, Connection connection) throws SQLException {
+        var kind = relationKind(session);
+        if (kind == null) {
+            logger.warn("Audit log table not found, partitioning skipped");
+            return;
+        }
+        if ("p".equals(kind)) {
+            INDEXES.forEach((name, definition) ->
+                    session.execute("CREATE INDEX IF NOT EXISTS " + name + " " + definition));
+            return;
+        }
+        var bound = hasRows(session, TABLE) ? prepareLegacy(session) : null;
+        connection.setAutoCommit(false);
+        try {
+            swap(session, bound);
+            connection.commit();
+        } catch (RuntimeException | SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Do the slow part of the conversion while writers keep going: build the indexes the partition will
+     * need and prove that every row lies below the legacy bound
+     *
+     * @return the exclusive upper bound of the legacy partition
+     */
+    private LocalDate prepareLegacy(JdbcTemplate session) {
+        var bound = existingLegacyBound(session);
+        if (bound == null) {
+            // Leaves a full month before rows written during the preparation could exceed the bound
+            bound = YearMonth.now().plusMonths(2).atDay(1);
+        }
+        logger.info("Preparing audit log table for partitioning, legacy rows up to {}", bound);
+        createIndexConcurrently(session, LEGACY_KEY, "UNIQUE", "ON audit_logs (id, \"timestamp\")");
+        INDEXES.forEach((name, definition) -> createIndexConcurrently(session, name, "", definition));
+        if (!constraintExists(session, LEGACY_KEY)) {
+            session.execute("ALTER TABLE audit_logs ADD CONSTRAINT " + LEGACY_KEY
+                    + " UNIQUE USING INDEX " + LEGACY_KEY);
+        }
+        if (!constraintExists(session, LEGACY_BOUND)) {
+            session.execute("ALTER TABLE audit_logs ADD CONSTRAINT " + LEGACY_BOUND
+                    + " CHECK (\"timestamp\" < '" + bound + "') NOT VALID");
+        }
+        // Scans the table without blocking inserts
+        session.execute("ALTER TABLE audit_logs VALIDATE CONSTRAINT " + LEGACY_BOUND);
+        return bound;
+    }
+
+    /**
+     * Swap the plain table for a partitioned one under a short exclusive lock; the existing rows stay where
+     * they are as one partition
+     *
+     * @param bound exclusive upper bound prepared for the legacy rows, or null if the table was empty
+     */
+    private void swap(JdbcTemplate session, LocalDate bound) {
+        session.execute("SET LOCAL lock_timeout = " + lockTimeoutMs);
+        session.execute("LOCK TABLE audit_logs IN ACCESS EXCLUSIVE MODE");
+        if (!"r".equals(relationKind(session))) {
+            return;
+        }
+        session.execute("ALTER TABLE audit_logs RENAME TO " + LEGACY_PARTITION);
+        // Free the index names for the partitioned table; matching indexes are reused on attach
+        var legacyIndexes = session.queryForList("""
+                SELECT indexname FROM pg_indexes
+                WHERE schemaname = current_schema() AND tablename = ?
+                """, String.class, LEGACY_PARTITION);
+        for (var index : legacyIndexes) {
+            var renamed = index.length() > 56 ? index.substring(0, 56) : index;
+            session.execute("ALTER INDEX \"" + index + "\" RENAME TO \"" + renamed + "_legacy\"");
+        }
+        session.execute("CREATE TABLE audit_logs (LIKE " + LEGACY_PARTITION + " INCLUDING DEFAULTS)"
+                + " PARTITION BY RANGE (\"timestamp\")");
+        // The partition key has to be part of the primary key
+        session.execute("ALTER TABLE audit_logs ADD CONSTRAINT audit_logs_pkey PRIMARY KEY (id, \"timestamp\")");
+        INDEXES.forEach((name, definition) -> session.execute("CREATE INDEX " + name + " " + definition));
+
+        if (!hasRows(session, LEGACY_PARTITION)) {
+            session.execute("DROP TABLE " + LEGACY_PARTITION);
+            createMonthlyPartitions(session, null);
+            logger.info("Audit log table converted to a partitioned table");
+            return;
+        }
+        if (bound == null) {
+            // Rows arrived after the emptiness check; too few to make the validation scan matter
+            bound = YearMonth.now().plusMonths(1).atDay(1);
+        }
+        session.execute("ALTER TABLE audit_logs ATTACH PARTITION " + LEGACY_PARTITION
+                + " FOR VALUES FROM (MINVALUE) TO ('" + bound + "')");
+        session.execute("ALTER TABLE " + LEGACY_PARTITION + " DROP CONSTRAINT IF EXISTS " + LEGACY_BOUND);
+        createMonthlyPartitions(session, bound);
+        logger.info("Audit log table converted to a partitioned table, existing rows kept in {} up to {}",
+                LEGACY_PARTITION, bound);
+    }
+
+    /**
+     * Create the monthly partitions from the current month up to {@code months-ahead} within the swap, so the
+     * table never commits without a partition for new rows and does not depend on the maintenance job
+     *
+     * @param coveredUntil exclusive upper bound already covered by the legacy partition, or null
+     */
+    private void createMonthlyPartitions(JdbcTemplate session, LocalDate coveredUntil) {
+        var current = YearMonth.now();
+        for (var i = 0; i <= monthsAhead; i++) {
+            var month = current.plusMonths(i);
+            var from = month.atDay(1);
+            if (coveredUntil != null && from.isBefore(coveredUntil)) {
+                continue;
+            }
+            session.execute("CREATE TABLE " + partitionName(month) + " PARTITION OF audit_logs FOR VALUES FROM ('"
+                    + from + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+        }
+    }
+
+    /**
+     * Build an index without blocking writes; an invalid leftover of an interrupted build is rebuilt
+     */
+    private void createIndexConcurrently(JdbcTemplate session, String name, String kind, String definition) {
+        var valid = session.queryForList("""
+                SELECT i.indisvalid FROM pg_index i
+                JOIN pg_class c ON c.oid = i.indexrelid
+                WHERE c.relname = ? AND c.relnamespace = current_schema()::regnamespace
+                """, Boolean.class, name);
+        if (!valid.isEmpty() && valid.getFirst()) {
+            return;
+        }
+        if (!valid.isEmpty()) {
+            session.execute("DROP INDEX CONCURRENTLY " + name);
+        }
+        session.execute("CREATE " + kind + " INDEX CONCURRENTLY " + name + " " + definition);
+    }
+
+    /**
+     * Upper bound of a legacy CHECK constraint left by an interrupted preparation, or null
+     */
+    private LocalDate existingLegacyBound(JdbcTemplate session) {
+        var definitions = session.queryForList("""
+                SELECT pg_get_constraintdef(oid) FROM pg_constraint
+                WHERE conname = ? AND conrelid = to_regclass(?)
+                """, String.class, LEGACY_BOUND, TABLE);
+        if (definitions.isEmpty()) {
+            return null;
+        }
+        var matcher = CHECK_BOUND.matcher(definitions.getFirst());
+        if (!matcher.find()) {
+            throw new IllegalStateException("Unexpected legacy audit log bound: " + definitions.getFirst());
+        }
+        return LocalDate.parse(matcher.group(1));
+    }
+
+    private static boolean constraintExists(JdbcTemplate session, String name) {
+        return !session.queryForList("SELECT 1 FROM pg_constraint WHERE conname = ? AND conrelid = to_regclass(?)",
+                Integer.class, name, TABLE).isEmpty();
+    }
+
+    private static boolean hasRows(JdbcTemplate session, String table) {
+        return Boolean.TRUE.equals(session.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + table + ")", Boolean.class));
+    }
+
+    /**
+     * relkind of the audit log table: "r" plain, "p" partitioned, or null if missing
+     */
+    private static String relationKind(JdbcTemplate template) {
+        var kind = template.queryForList(
+                "SELECT relkind::text FROM pg_class WHERE oid = to_regclass(?)", String.class, TABLE);
+        return kind.isEmpty() ? null : kind.getFirst();
+    }
+
+    private void createFuturePartitions() {
+        var legacyUpperBound = legacyUpperBound();
+        var current = YearMonth.now();
+        for (var i = 0; i <= monthsAhead; i++) {
+            var month = current.plusMonths(i);
+            var from = month.atDay(1);
+            if (legacyUpperBound != null && from.isBefore(legacyUpperBound)) {
+                continue;
+            }
+            var name = partitionName(month);
+            var created = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (!tryLock() || partitions().contains(name)) {
+                    return false;
+                }
+                jdbcTemplate.execute("CREATE TABLE " + name + " PARTITION OF audit_logs FOR VALUES FROM ('"
+                        + from + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+                return true;
+            }));
+            if (created) {
+                logger.info("Audit log partition created: {}", name);
+            }
+        }
+    }
+
+    private void dropExpiredPartitions() {
+        if (retentionMonths <= 0) {
+            return;
+        }
+        var cutoff = YearMonth.now().minusMonths(retentionMonths);
+        for (var name : partitions()) {
+            var matcher = MONTHLY_PARTITION.matcher(name);
+            var expired = matcher.matches()
+                    ? YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)))
+                    .isBefore(cutoff)
+                    : LEGACY_PARTITION.equals(name) && !legacyUpperBound().isAfter(cutoff.atDay(1));
+            if (expired) {
+                dropPartition(name);
+            }
+        }
+    }
+
+    /**
+     * Detach and drop one partition in a short transaction; gives up if writers hold the table too long
+     */
+    private void dropPartition(String name) {
+        var dropped = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (!tryLock()) {
+                return false;
+            }
+            jdbcTemplate.execute("SET LOCAL lock_timeout = " + lockTimeoutMs);
+            jdbcTemplate.execute("ALTER TABLE audit_logs DETACH PARTITION " + name);
+            jdbcTemplate.execute("DROP TABLE " + name);
+            return true;
+        }));
+        if (dropped) {
+            logger.info("Audit log partition dropped: {}", name);
+        }
+    }
+
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = to_regclass(?)
+                """, String.class, TABLE);
+    }
+
+    /**
+     * Exclusive upper bound of the legacy partition, or null if there is none
+     */
+    private LocalDate legacyUpperBound() {
+        var bounds = jdbcTemplate.queryForList("""
+                SELECT pg_get_expr(c.relpartbound, c.oid) FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = to_regclass(?) AND c.relname = ?
+                """, String.class, TABLE, LEGACY_PARTITION);
+        if (bounds.isEmpty()) {
+            return null;
+        }
+        var matcher = UPPER_BOUND.matcher(bounds.getFirst());
+        if (!matcher.find()) {
+            throw new IllegalStateException("Unexpected legacy audit log partition bound: " + bounds.getFirst());
+        }
+        return LocalDate.parse(matcher.group(1));
+    }
+
+    /**
+     * Take the maintenance lock for the current transaction; false if another instance holds it, for
+     * example while it is converting the table, so the scheduler thread never waits on it
+     */
+    private boolean tryLock() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, ADVISORY_LOCK_KEY));
+    }
+
+    private static String partitionName(YearMonth month) {
+        return String.format("audit_logs_p%04d%02d", month.getYear(), month.getMonthValue());
+    }
+}
@@ -0,0 +1,249 @@
+package ai.synalix.synalixai.service;
+
+import ai.synalix.synalixai.dto.audit.AuditLogMessage;
+import ai.synalix.synalixai.entity.AuditLog;
+import ai.synalix.synalixai.repository.AuditLogRepository;
+import ai.synalix.synalixai.util.MappedSpool;
+import ai.synalix.synalixai.util.MpscRingBuffer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Publishes audit log messages to RabbitMQ off the request thread.
+ * <p>
+ * Callers only enqueue into a bounded lock-free ring; a dedicated thread drains it in batches, publishes
+ * each batch on one channel and waits for the broker's publisher confirms. A batch that is not confirmed
+ * is appended to a local memory-mapped spool, which is replayed to the broker once it is reachable again;
+ * only if the spool cannot be written does the batch go straight to the database. Publishing is
+ * at-least-once: a batch whose confirm timed out may be spooled and sent again, and the consumer
+ * drops the duplicates by event id. When the ring is full
+ * new messages are dropped and counted rather than blocking the caller.
+ */
+@Service
+public class AuditPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditPublisher.class);
+
+    /**
+     * Type header set by the JSON message converter; spooled messages carry it too
+     */
+    private static final String TYPE_ID_HEADER = "__TypeId__";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final AuditLogRepository auditLogRepository;
+    private final ObjectMapper objectMapper;
+    private final MpscRingBuffer<AuditLogMessage> ring;
+    private final MappedSpool spool;
+
+    private final Counter published;
+    private final Counter dropped;
+    private final Counter spooled;
+    private final Counter fallback;
+
+    @Value("${audit.exchange.name}")
+    private String auditExchangeName;
+
+    @Value("${audit.routing.key}")
+    private String auditRoutingKey;
+
+    @Value("${app.audit-publisher.batch-size}")
+    private int batchSize;
+
+    @Value("${app.audit-publisher.confirm-timeout-ms}")
+    private long confirmTimeoutMs;
+
+    @Value("${app.audit-publisher.idle-wait-ms}")
+    private long idleWaitMs;
+
+    private volatile boolean running;
+    private Thread publisherThread;
+
+    @Autowired
+    public AuditPublisher(RabbitTemplate rabbitTemplate, AuditLogRepository auditLogRepository,
+                          ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                          @Value("${app.audit-publisher.capacity}") int capacity,
+                          @Value("${app.audit-spool.dir}") String spoolDir,
+                          @Value("${app.audit-spool.segment-bytes}") int spoolSegmentBytes) throws IOException {
+        this.rabbitTemplate = rabbitTemplate;
+        this.auditLogRepository = auditLogRepository;
+        this.objectMapper = objectMapper;
+        this.ring = new MpscRingBuffer<>(capacity);
+        this.spool = new MappedSpool(Path.of(spoolDir), spoolSegmentBytes);
+        Gauge.builder("audit.publisher.queue.depth", ring, MpscRingBuffer::size)
+                .description("Audit messages waiting to be published")
+                .register(meterRegistry);
+        this.published = Counter.builder("audit.publisher.published")
+                .description("Audit messages confirmed by the broker")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("audit.publisher.dropped")
+                .description("Audit messages dropped because the queue was full")
+                .register(meterRegistry);
+        this.spooled = Counter.builder("audit.publisher.spooled")
+                .description("Audit messages spooled to disk after a failed publish")
+                .register(meterRegistry);
+        this.fallback = Counter.builder("audit.publisher.fallback")
+                .description("Audit messages written to the database after a failed publish")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        publisherThread = new Thread(this::run, "Audit-publisher");
+        publisherThread.setDaemon(true);
+        publisherThread.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(publisherThread);
+        publisherThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * Enqueue a message for publishing; never blocks
+     *
+     * @return false if the queue was full and the message was dropped
+     */
+    public boolean publish(AuditLogMessage message) {
+        if (ring.offer(message)) {
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    private void run() {
+        var batch = new ArrayList<AuditLogMessage>(batchSize);
+        while (running || ring.size() > 0) {
+            ring.drain(batch::add, batchSize);
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(idleWaitMs));
+                continue;
+            }
+            try {
+                publishBatch(batch);
+            } catch (Exception e) {
+                logger.warn("Failed to publish audit batch, spooling: size={}, error={}",
+                        batch.size(), e.getMessage());
+                spoolBatch(batch);
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * Send the batch on one channel and wait until the broker confirms all of it
+     */
+    private void publishBatch(List<AuditLogMessage> batch) {
+        rabbitTemplate.invoke(operations -> {
+            for (var message : batch) {
+                operations.convertAndSend(auditExchangeName, auditRoutingKey, message);
+            }
+            operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            return null;
+        });
+        published.increment(batch.size());
+        logger.debug("Audit batch published: size={}", batch.size());
+    }
+
+    /**
+     * Forward spooled messages to the broker once it is reachable again; each spool segment is deleted only
+     * after the broker confirmed all of its messages
+     */
+    @Scheduled(fixedDelayString = "${app.audit-spool.replay-interval-ms}",
+            initialDelayString = "${app.audit-spool.replay-interval-ms}")
+    public void replaySpool() {
+        if (spool.isEmpty()) {
+            return;
+        }
+        try {
+            var replayed = spool.replay(this::publishSpooled);
+            if (replayed > 0) {
+                logger.info("Spooled audit messages replayed: count={}", replayed);
+            }
+        } catch (IOException e) {
+            logger.error("Failed to replay audit spool: {}", e.getMessage());
+        }
+    }
+
+    private boolean publishSpooled(List<byte[]> records) {
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (var record : records) {
+                    var message = MessageBuilder.withBody(record)
+                            .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                            .setHeader(TYPE_ID_HEADER, AuditLogMessage.class.getName())
+                            .build();
+                    operations.send(auditExchangeName, auditRoutingKey, message);
+                }
+                operations.waitForConfirmsOrDie(confirmTimeoutMs);
+                return null;
+            });
+            published.increment(records.size());
+            return true;
+        } catch (Exception e) {
+            logger.debug("Audit spool replay deferred, broker still unavailable: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Append the batch to the local spool; falls back to the database if the spool cannot be written
+     */
+    private void spoolBatch(List<AuditLogMessage> batch) {
+        try {
+            for (var message : batch) {
+                spool.append(objectMapper.writeValueAsBytes(message));
+            }
+            spool.flush();
+            spooled.increment(batch.size());
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to spool audit batch, saving to database: size={}, error={}",
+                    batch.size(), e.getMessage());
+            storeDirect(batch);
+        }
+    }
+
+    /**
+     * Last resort: log the batch directly to database
+     */
+    private void storeDirect(List<AuditLogMessage> batch) {
+        try {
+            auditLogRepository.insertIgnoringDuplicates(batch.stream().map(message -> {
+                var auditLog = new AuditLog();
+                auditLog.setId(message.getEventId());
+                auditLog.setTimestamp(message.getOccurredAt());
+                auditLog.setOperationType(message.getOperationType());
+                auditLog.setUserId(message.getUserId());
+                auditLog.setResourceId(message.getResourceId());
+                auditLog.setDetails(message.getEventDescription());
+                return auditLog;
+            }).toList());
+            fallback.increment(batch.size());
+        } catch (Exception e) {
+            logger.error("Failed to save audit batch to database: size={}", batch.size(), e);
+        }
+    }
+}
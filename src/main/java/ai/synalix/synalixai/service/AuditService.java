@@ -1,17 +1,23 @@
 package ai.synalix.synalixai.service;
 
+import ai.synalix.synalixai.dto.audit.AuditLogFilter;
 import ai.synalix.synalixai.dto.audit.AuditLogMessage;
+import ai.synalix.synalixai.dto.audit.AuditLogPageResponse;
 import ai.synalix.synalixai.entity.AuditLog;
+import ai.synalix.synalixai.enums.ApiErrorCode;
 import ai.synalix.synalixai.enums.AuditOperationType;
+import ai.synalix.synalixai.exception.ApiException;
 import ai.synalix.synalixai.repository.AuditLogRepository;
+import ai.synalix.synalixai.util.KeysetCursor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -24,34 +30,68 @@ public class AuditService {
 
     private static final Logger logger = LoggerFactory.getLogger(AuditService.class);
 
-    private final RabbitTemplate rabbitTemplate;
-    private final AuditLogRepository auditLogRepository;
-
-    @Value("${audit.exchange.name}")
-    private String auditExchangeName;
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
 
-    @Value("${audit.routing.key}")
-    private String auditRoutingKey;
+    private final AuditPublisher auditPublisher;
+    private final AuditLogRepository auditLogRepository;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public AuditService(RabbitTemplate rabbitTemplate, AuditLogRepository auditLogRepository) {
-        this.rabbitTemplate = rabbitTemplate;
+    public AuditService(AuditPublisher auditPublisher, AuditLogRepository auditLogRepository,
+                        ObjectMapper objectMapper) {
+        this.auditPublisher = auditPublisher;
         this.auditLogRepository = auditLogRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Get a page of audit logs using keyset pagination on (timestamp, id), newest first
+     */
+    @Transactional(readOnly = true)
+    public AuditLogPageResponse getAuditLogs(AuditLogFilter filter, String cursor, Integer limit) {
+        validateFilter(filter);
+        var pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        var after = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+
+        // Fetch one extra row to know whether another page exists
+        var rows = auditLogRepository.findPage(filter, after, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new AuditLogPageResponse(rows, null);
+        }
+        var items = rows.subList(0, pageSize);
+        var last = items.get(pageSize - 1);
+        return new AuditLogPageResponse(items, KeysetCursor.encode(last.getTimestamp(), last.getId()));
+    }
+
+    /**
+     * Reject filters the query cannot apply
+     */
+    void validateFilter(AuditLogFilter filter) {
+        if (filter.details() != null && !isJsonObject(filter.details())) {
+            throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "details must be a JSON object");
+        }
+    }
+
+    private boolean isJsonObject(String json) {
+        try {
+            return objectMapper.readTree(json).isObject();
+        } catch (JsonProcessingException e) {
+            return false;
+        }
     }
 
     /**
      * Asynchronously submit audit log via RabbitMQ
      * 统一使用 logOperation() 方法名
+     * <p>
+     * Only enqueues the message; {@link AuditPublisher} sends it from its own thread.
      */
     public void logOperation(AuditOperationType operationType, UUID userId, String resourceId, Map<String, Object> eventDescription) {
-        try {
-            var message = new AuditLogMessage(operationType, userId, resourceId, eventDescription);
-            rabbitTemplate.convertAndSend(auditExchangeName, auditRoutingKey, message);
-            logger.debug("Audit log message sent to queue: {}", message);
-        } catch (Exception e) {
-            logger.error("Failed to send audit log message to queue", e);
-            // Fallback: log directly to database
-            logDirect(operationType, userId, resourceId, eventDescription);
+        var message = new AuditLogMessage(operationType, userId, resourceId, eventDescription,
+                UUID.randomUUID(), LocalDateTime.now());
+        if (!auditPublisher.publish(message)) {
+            logger.debug("Audit queue full, message dropped: operation={}, userId={}", operationType, userId);
         }
     }
 
@@ -10,6 +10,7 @@ import ai.synalix.synalixai.enums.ApiErrorCode;
 import ai.synalix.synalixai.exception.ApiException;
 import ai.synalix.synalixai.repository.RefreshTokenRepository;
 import ai.synalix.synalixai.repository.UserRepository;
+import ai.synalix.synalixai.util.HashUtil;
 import ai.synalix.synalixai.util.JwtUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -86,7 +87,8 @@ public class AuthService {
         // Find user ID from refresh token
         UUID userId = null;
         if (refreshTokenValue != null) {
-            Optional<RefreshToken> refreshToken = refreshTokenRepository.findByToken(refreshTokenValue);
+            Optional<RefreshToken> refreshToken =
+                    refreshTokenRepository.findByTokenHash(HashUtil.sha256Hex(refreshTokenValue));
             if (refreshToken.isPresent()) {
                 userId = refreshToken.get().getUserId();
             }
@@ -137,7 +139,7 @@ public class AuthService {
     @Transactional
     public Map<String, String> refreshAccessToken(String refreshTokenValue) {
         // Find refresh token
-        var refreshToken = refreshTokenRepository.findByToken(refreshTokenValue)
+        var refreshToken = refreshTokenRepository.findByTokenHash(HashUtil.sha256Hex(refreshTokenValue))
                 .orElseThrow(() -> new ApiException(ApiErrorCode.INVALID_REFRESH_TOKEN));
 
         // Check if token is valid
@@ -176,7 +178,7 @@ public class AuthService {
     @Transactional
     public void logout(String refreshTokenValue, UUID userId) {
         if (refreshTokenValue != null) {
-            refreshTokenRepository.revokeTokenByToken(refreshTokenValue);
+            refreshTokenRepository.revokeTokenByTokenHash(HashUtil.sha256Hex(refreshTokenValue));
             auditService.logTokenEvent(AuditOperationType.TOKEN_REVOKE, userId, "refresh", "logout");
         }
 
@@ -210,10 +212,10 @@ public class AuthService {
         // Calculate expiration time (7 days from now)
         var expiresAt = LocalDateTime.now().plusDays(7);
 
-        // Save to database
+        // Save to database; only the hash is stored
         var refreshToken = new RefreshToken();
         refreshToken.setUserId(user.getId());
-        refreshToken.setToken(tokenValue);
+        refreshToken.setTokenHash(HashUtil.sha256Hex(tokenValue));
         refreshToken.setExpiresAt(expiresAt);
         refreshTokenRepository.save(refreshToken);
 
@@ -0,0 +1,117 @@
+package ai.synalix.synalixai.service;
+
+import ai.synalix.synalixai.config.JwtUserPrincipal;
+import ai.synalix.synalixai.util.HashUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded LRU cache of verified access tokens.
+ * <p>
+ * Maps the SHA-256 of a token to the principal resolved from it, so repeated requests with the same token
+ * skip signature verification and the user lookup. Every entry is stamped with the user's generation, which
+ * is bumped when an update to that user's status or role, or its deletion, happens and again once it commits;
+ * an entry resolved under an older generation is never served, even if it was put after the eviction.
+ * <p>
+ * Invalidation only reaches this instance. Other instances keep serving their entries until they reach the
+ * maximum age, so the worst-case window for a disabled or demoted user is max-age, and never more than the
+ * access-token TTL because entries also expire with their token.
+ */
+@Service
+public class AuthTokenCache {
+
+    private final Map<String, Entry> entries;
+    private final Map<UUID, Long> generations = new ConcurrentHashMap<>();
+    private final long maxAgeMs;
+
+    public AuthTokenCache(@Value("${app.auth-cache.max-entries}") int maxEntries,
+                          @Value("${app.auth-cache.max-age-ms}") long maxAgeMs) {
+        this.maxAgeMs = maxAgeMs;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    private record Entry(JwtUserPrincipal principal, long expiresAt, long generation) {
+    }
+
+    /**
+     * Cache key for a token; the raw token is never held in memory longer than the request
+     */
+    public String key(String token) {
+        return HashUtil.sha256Hex(token);
+    }
+
+    /**
+     * Current generation of the user; read it before loading the user so a concurrent update is detected
+     */
+    public long generation(UUID userId) {
+        return generations.getOrDefault(userId, 0L);
+    }
+
+    /**
+     * Principal previously resolved from the token, or null if unknown, expired or resolved before the last
+     * update of its user
+     */
+    public JwtUserPrincipal get(String key) {
+        var entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()
+                || entry.generation() != generation(entry.principal().getId())) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.principal();
+    }
+
+    /**
+     * Remember the principal resolved from a token until the token expires or the maximum age is reached.
+     * Ignored if the user was updated since {@code generation} was read.
+     *
+     * @param expiresAt  token expiration, epoch milliseconds
+     * @param generation user generation read before the user was loaded
+     */
+    public void put(String key, JwtUserPrincipal principal, long expiresAt, long generation) {
+        if (generation != generation(principal.getId())) {
+            return;
+        }
+        var until = Math.min(expiresAt, System.currentTimeMillis() + maxAgeMs);
+        entries.put(key, new Entry(principal, until, generation));
+    }
+
+    /**
+     * Invalidate every cached token of the user now and again once the current transaction commits, so a
+     * request that loaded the user before the commit cannot cache the old state
+     */
+    public void invalidateUser(UUID userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        }
+        evict(userId);
+    }
+
+    private void evict(UUID userId) {
+        generations.merge(userId, 1L, Long::sum);
+        synchronized (entries) {
+            entries.values().removeIf(entry -> entry.principal().getId().equals(userId));
+        }
+    }
+}
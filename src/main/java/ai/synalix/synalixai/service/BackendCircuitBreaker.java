@@ -0,0 +1,227 @@
+package ai.synalix.synalixai.service;
+
+import ai.synalix.synalixai.enums.ApiErrorCode;
+import ai.synalix.synalixai.exception.ApiException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breakers with a last-known-good cache for reads from the training backend.
+ * <p>
+ * Each kind of call (GPU status, task status, checkpoints) has its own circuit, so one failing endpoint
+ * does not cut off the others. After a run of consecutive connect/read timeouts or I/O errors a circuit
+ * opens: its reads are answered from the cache right away, marked stale, instead of waiting for the
+ * backend to time out. Once the open period has elapsed, one read is retried in the background; its
+ * success closes the circuit and refreshes the cache. Error responses mean the backend is reachable:
+ * client errors (4xx) are passed through and reset the count, while server errors (5xx) fall back to the
+ * cache without counting towards opening the circuit.
+ */
+@Service
+public class BackendCircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(BackendCircuitBreaker.class);
+
+    /**
+     * Response headers set by controllers when they answer with a stale value
+     */
+    public static final String STALE_HEADER = "X-Data-Stale";
+    public static final String FETCHED_AT_HEADER = "X-Data-Fetched-At";
+
+    /**
+     * Circuits, one per kind of backend call
+     */
+    public static final String GPU_STATUS = "gpu-status";
+    public static final String TASK_STATUS = "task-status";
+    public static final String CHECKPOINTS = "checkpoints";
+
+    private final Executor executor;
+    private final int failureThreshold;
+    private final long openMs;
+
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    /**
+     * Last successful response per read key, least recently used first
+     */
+    private final Map<String, Result<?>> lastGood;
+
+    @Autowired
+    public BackendCircuitBreaker(@Qualifier("taskExecutor") Executor executor,
+                                 @Value("${app.backend-circuit.failure-threshold}") int failureThreshold,
+                                 @Value("${app.backend-circuit.open-ms}") long openMs,
+                                 @Value("${app.backend-circuit.cache-max-entries}") int cacheMaxEntries) {
+        this.executor = executor;
+        this.failureThreshold = failureThreshold;
+        this.openMs = openMs;
+        this.lastGood = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Result<?>> eldest) {
+                return size() > cacheMaxEntries;
+            }
+        });
+    }
+
+    /**
+     * Value of a backend read; stale values come from the cache and were fetched at {@code fetchedAt}
+     */
+    public record Result<T>(T value, boolean stale, LocalDateTime fetchedAt) {
+    }
+
+    /**
+     * Read through the circuit breaker
+     *
+     * @param circuit kind of backend call, one of the circuit constants
+     * @param key     cache key identifying the read within its circuit
+     * @param loader  performs the backend call
+     * @return a fresh value, or the last known good value marked stale while the backend is failing
+     * @throws ApiException BACKEND_UNAVAILABLE if the backend is failing and nothing is cached
+     */
+    public <T> Result<T> read(String circuit, String key, Supplier<T> loader) {
+        var state = circuits.computeIfAbsent(circuit, Circuit::new);
+        var cacheKey = circuit + ":" + key;
+        if (state.isOpen()) {
+            if (System.currentTimeMillis() - state.openedAt >= openMs) {
+                probeInBackground(state, cacheKey, loader);
+            }
+            return cachedOrThrow(cacheKey);
+        }
+
+        try {
+            return load(state, cacheKey, loader);
+        } catch (HttpClientErrorException e) {
+            throw e;
+        } catch (RestClientException e) {
+            logger.debug("Backend read failed: key={}, error={}", cacheKey, e.getMessage());
+            return cachedOrThrow(cacheKey);
+        }
+    }
+
+    /**
+     * Whether reads of the given circuit are currently being served from the cache
+     */
+    public boolean isOpen(String circuit) {
+        var state = circuits.get(circuit);
+        return state != null && state.isOpen();
+    }
+
+    private <T> Result<T> load(Circuit circuit, String cacheKey, Supplier<T> loader) {
+        try {
+            var value = loader.get();
+            var result = new Result<>(value, false, LocalDateTime.now());
+            lastGood.put(cacheKey, result);
+            circuit.onSuccess();
+            return result;
+        } catch (HttpClientErrorException e) {
+            circuit.onSuccess();
+            throw e;
+        } catch (ResourceAccessException e) {
+            circuit.onFailure();
+            throw e;
+        } catch (RestClientException e) {
+            circuit.onErrorResponse();
+            throw e;
+        }
+    }
+
+    /**
+     * Retry one read off the request thread; at most one probe per circuit runs at a time
+     */
+    private <T> void probeInBackground(Circuit circuit, String cacheKey, Supplier<T> loader) {
+        if (!circuit.probeInFlight.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    load(circuit, cacheKey, loader);
+                } catch (Exception e) {
+                    logger.debug("Backend probe failed: key={}, error={}", cacheKey, e.getMessage());
+                } finally {
+                    circuit.probeInFlight.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            circuit.probeInFlight.set(false);
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Result<T> cachedOrThrow(String cacheKey) {
+        var cached = (Result<T>) lastGood.get(cacheKey);
+        if (cached == null) {
+            throw new ApiException(ApiErrorCode.BACKEND_UNAVAILABLE);
+        }
+        return new Result<>(cached.value(), true, cached.fetchedAt());
+    }
+
+    /**
+     * Failure count and open state of one kind of backend call
+     */
+    private final class Circuit {
+
+        private final String name;
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final AtomicBoolean probeInFlight = new AtomicBoolean();
+
+        /**
+         * Time the circuit opened, or 0 while it is closed
+         */
+        private volatile long openedAt;
+
+        private Circuit(String name) {
+            this.name = name;
+        }
+
+        private boolean isOpen() {
+            return openedAt != 0;
+        }
+
+        private void onSuccess() {
+            consecutiveFailures.set(0);
+            if (openedAt != 0) {
+                openedAt = 0;
+                logger.info("Backend circuit closed: circuit={}", name);
+            }
+        }
+
+        private void onFailure() {
+            if (openedAt != 0) {
+                // Failed probe: stay open for another period
+                openedAt = System.currentTimeMillis();
+                return;
+            }
+            if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+                openedAt = System.currentTimeMillis();
+                logger.warn("Backend circuit opened after {} consecutive failures: circuit={}",
+                        consecutiveFailures.get(), name);
+            }
+        }
+
+        /**
+         * A 5xx does not count towards opening, but a probe answered with one keeps the circuit open
+         */
+        private void onErrorResponse() {
+            if (openedAt != 0) {
+                openedAt = System.currentTimeMillis();
+            }
+        }
+    }
+}
@@ -6,11 +6,22 @@ import ai.synalix.synalixai.enums.ApiErrorCode;
 import ai.synalix.synalixai.enums.AuditOperationType;
 import jakarta.validation.constraints.NotNull;
 import ai.synalix.synalixai.exception.ApiException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -19,6 +30,12 @@ import java.util.UUID;
 @Service
 public class ChatService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ChatService.class);
+
+    private static final int STREAM_BUFFER_SIZE = 1024;
+    private static final byte[] STREAM_ERROR_EVENT =
+            "event: error\ndata: {\"message\":\"Chat completions failed\"}\n\n".getBytes(StandardCharsets.UTF_8);
+
     private final RestTemplate restTemplate;
     private final TaskService taskService;
     private final MinioService minioService;
@@ -26,7 +43,8 @@ public class ChatService {
     @Value("${app.backend-base-url}")
     private String backendBaseUrl;
 
-    public ChatService(RestTemplate restTemplate, TaskService taskService, MinioService minioService) {
+    public ChatService(@Qualifier("backendChatRestTemplate") RestTemplate restTemplate, TaskService taskService,
+                       MinioService minioService) {
         this.restTemplate = restTemplate;
         this.taskService = taskService;
         this.minioService = minioService;
@@ -39,9 +57,7 @@ public class ChatService {
 
         var task = taskService.getTaskById(taskId);
         req.setTaskId(task.getExternalTaskId().toString());
-        var url = backendBaseUrl.endsWith("/")
-                ? backendBaseUrl + "api/chat/completions"
-                : backendBaseUrl + "/api/chat/completions";
+        var url = completionsUrl();
 
         try {
             return restTemplate.postForObject(url, req, ChatCompletionsResponse.class);
@@ -49,4 +65,52 @@ public class ChatService {
             throw new ApiException(ApiErrorCode.INTERNAL_SERVER_ERROR, "Chat completions failed");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 流式调用后端 /api/chat/completions，将后端 SSE 字节原样转发给客户端。
+     * Each read is written and flushed immediately, so the first token reaches the client as soon as the
+     * backend emits it; only a small fixed buffer is held per stream.
+     */
+    public StreamingResponseBody chatStream(ChatCompletionsRequest req, UUID taskId) {
+        // Resolve the task up front so a missing task is still reported as a normal error response
+        var task = taskService.getTaskById(taskId);
+        if (task.getExternalTaskId() == null) {
+            throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "Task has not been submitted to the backend");
+        }
+        req.setTaskId(task.getExternalTaskId());
+        req.getCompletions().setStream(true);
+        var url = completionsUrl();
+
+        var headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+        var requestCallback = restTemplate.httpEntityCallback(new HttpEntity<>(req, headers));
+
+        return outputStream -> {
+            try {
+                restTemplate.execute(url, HttpMethod.POST, requestCallback, response -> {
+                    var buffer = new byte[STREAM_BUFFER_SIZE];
+                    try (var in = response.getBody()) {
+                        int read;
+                        while ((read = in.read(buffer)) != -1) {
+                            outputStream.write(buffer, 0, read);
+                            outputStream.flush();
+                        }
+                    }
+                    return null;
+                });
+            } catch (RestClientException e) {
+                logger.warn("Chat completion stream failed: task={}, error={}", taskId, e.getMessage());
+                // Headers are already committed, so report the failure in-band as an SSE error event
+                outputStream.write(STREAM_ERROR_EVENT);
+                outputStream.flush();
+            }
+        };
+    }
+
+    private String completionsUrl() {
+        return backendBaseUrl.endsWith("/")
+                ? backendBaseUrl + "api/chat/completions"
+                : backendBaseUrl + "/api/chat/completions";
+    }
+}
@@ -9,6 +9,7 @@ import ai.synalix.synalixai.enums.ApiErrorCode;
 import ai.synalix.synalixai.exception.ApiException;
 import ai.synalix.synalixai.repository.CheckpointRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.beans.factory.annotation.Value;
@@ -39,17 +40,21 @@ public class CheckpointService {
     private final ModelRepository modelRepository;
     private final RestTemplate restTemplate;
     private final MinioService minioService;
+    private final BackendCircuitBreaker backendCircuitBreaker;
 
     @Value("${app.backend-base-url}")
     private String backendBaseUrl;
 
     @Autowired
-    public CheckpointService(CheckpointRepository checkpointRepository, RestTemplate restTemplate,
-            ModelRepository modelRepository, MinioService minioService) {
+    public CheckpointService(CheckpointRepository checkpointRepository,
+            @Qualifier("backendTaskRestTemplate") RestTemplate restTemplate,
+            ModelRepository modelRepository, MinioService minioService,
+            BackendCircuitBreaker backendCircuitBreaker) {
         this.checkpointRepository = checkpointRepository;
         this.restTemplate = restTemplate;
         this.modelRepository = modelRepository;
         this.minioService = minioService;
+        this.backendCircuitBreaker = backendCircuitBreaker;
     }
 
     /**
@@ -67,9 +72,9 @@ public class CheckpointService {
      * 从后端 ${app.backend-base-url}/api/checkpoints 获取指定模型名的所有检查点
      *
      * @param modelName 模型名（例如：llamafactory/tiny-random-Llama-3）
-     * @return 后端返回的检查点结构
+     * @return 后端返回的检查点结构；后端不可用时为最近一次成功结果并标记为 stale
      */
-    public BackendCheckpointsResponse fetchBackendCheckpoints(UUID modelId) {
+    public BackendCircuitBreaker.Result<BackendCheckpointsResponse> fetchBackendCheckpoints(UUID modelId) {
         var model = modelRepository.findById(modelId)
                 .orElseThrow(() -> new ApiException(ApiErrorCode.MODEL_NOT_FOUND,
                         Map.of("modelId", modelId.toString())));
@@ -80,10 +85,13 @@ public class CheckpointService {
         var url = backendBaseUrl.endsWith("/")
                 ? backendBaseUrl + "api/checkpoints"
                 : backendBaseUrl + "/api/checkpoints";
+        var req = new CheckpointQueryRequest();
+        req.setModelName(modelName);
         try {
-            var req = new CheckpointQueryRequest();
-            req.setModelName(modelName);
-            return restTemplate.postForObject(url, req, BackendCheckpointsResponse.class);
+            return backendCircuitBreaker.read(BackendCircuitBreaker.CHECKPOINTS, modelName,
+                    () -> restTemplate.postForObject(url, req, BackendCheckpointsResponse.class));
+        } catch (ApiException e) {
+            throw e;
         } catch (Exception e) {
             throw new ApiException(ApiErrorCode.INTERNAL_SERVER_ERROR, "Fetch checkpoints failed");
         }
@@ -93,11 +101,17 @@ public class CheckpointService {
      * 获取后端检查点并存入本地仓库
      *
      * @param modelId 模型ID
-     * @return 保存后的检查点列表
+     * @return 保存后的检查点列表；后端不可用时返回本地已保存的检查点并标记为 stale
      */
     @Transactional
-    public List<CheckpointResponse> fetchAndStoreBackendCheckpoints(UUID modelId) {
-        var resp = fetchBackendCheckpoints(modelId);
+    public BackendCircuitBreaker.Result<List<CheckpointResponse>> fetchAndStoreBackendCheckpoints(UUID modelId) {
+        var result = fetchBackendCheckpoints(modelId);
+        if (result.stale()) {
+            // The last successful fetch is already stored locally; leave it untouched
+            var stored = checkpointRepository.findByModelId(modelId).stream().map(this::toResponse).toList();
+            return new BackendCircuitBreaker.Result<>(stored, true, result.fetchedAt());
+        }
+        var resp = result.value();
         if (resp == null || resp.getTasks() == null || resp.getTasks().isEmpty()) {
             throw new ApiException(ApiErrorCode.RESOURCE_NOT_FOUND, "No checkpoints found from backend");
         }
@@ -123,7 +137,8 @@ public class CheckpointService {
 
         checkpointRepository.deleteByModelId(modelId);
         var persisted = checkpointRepository.saveAll(saved);
-        return persisted.stream().map(this::toResponse).toList();
+        return new BackendCircuitBreaker.Result<>(
+                persisted.stream().map(this::toResponse).toList(), false, result.fetchedAt());
     }
 
     /**
@@ -13,6 +13,7 @@ import ai.synalix.synalixai.repository.DatasetRepository;
 import ai.synalix.synalixai.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
@@ -52,7 +53,7 @@ public class DatasetService {
             MinioService minioService,
             AuditService auditService,
             MinioConfig minioConfig,
-            RestTemplate restTemplate) {
+            @Qualifier("backendTaskRestTemplate") RestTemplate restTemplate) {
         this.datasetRepository = datasetRepository;
         this.userRepository = userRepository;
         this.minioService = minioService;
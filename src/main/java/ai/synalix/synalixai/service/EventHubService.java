@@ -0,0 +1,291 @@
+package ai.synalix.synalixai.service;
+
+import ai.synalix.synalixai.config.JwtUserPrincipal;
+import ai.synalix.synalixai.dto.event.HubEvent;
+import ai.synalix.synalixai.dto.event.TaskStatusEvent;
+import ai.synalix.synalixai.dto.message.MessageResponse;
+import ai.synalix.synalixai.entity.Message;
+import ai.synalix.synalixai.entity.Task;
+import ai.synalix.synalixai.enums.ApiErrorCode;
+import ai.synalix.synalixai.enums.MessageVisibility;
+import ai.synalix.synalixai.enums.UserRole;
+import ai.synalix.synalixai.exception.ApiException;
+import ai.synalix.synalixai.repository.TaskRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Event hub that fans out task, GPU and message change events to WebSocket subscribers.
+ * <p>
+ * Clients subscribe to the public topics {@code task:{id}}, {@code tasks:mine}, {@code gpu} and
+ * {@code messages}. User-scoped topics are mapped to per-user routing keys internally so a
+ * publish only touches the sessions that may see the event.
+ */
+@Service
+public class EventHubService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventHubService.class);
+
+    public static final String TOPIC_GPU = "gpu";
+    public static final String TOPIC_MESSAGES = "messages";
+    public static final String TOPIC_MY_TASKS = "tasks:mine";
+    public static final String TASK_TOPIC_PREFIX = "task:";
+
+    private static final String USER_TASKS_KEY_PREFIX = "tasks:user:";
+    private static final String USER_MESSAGES_KEY_PREFIX = "messages:user:";
+
+    private static final int SEND_TIME_LIMIT_MS = 5000;
+    private static final int SEND_BUFFER_LIMIT_BYTES = 512 * 1024;
+
+    private final TaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Connected subscribers by WebSocket session id
+     */
+    private final Map<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * Routing key to subscribed sessions
+     */
+    private final Map<String, Set<Subscriber>> routes = new ConcurrentHashMap<>();
+
+    @Autowired
+    public EventHubService(TaskRepository taskRepository, ObjectMapper objectMapper) {
+        this.taskRepository = taskRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Register a newly connected session
+     */
+    public void register(WebSocketSession session, JwtUserPrincipal principal) {
+        var decorated = new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, SEND_BUFFER_LIMIT_BYTES);
+        subscribers.put(session.getId(), new Subscriber(decorated, principal));
+        logger.debug("WebSocket session registered: session={}, user={}", session.getId(), principal.getId());
+    }
+
+    /**
+     * Remove a session and all of its subscriptions
+     */
+    public void unregister(String sessionId) {
+        var subscriber = subscribers.remove(sessionId);
+        if (subscriber == null) {
+            return;
+        }
+        subscriber.keys().forEach(key -> removeRoute(key, subscriber));
+        logger.debug("WebSocket session unregistered: session={}", sessionId);
+    }
+
+    /**
+     * Subscribe a session to a public topic after checking access
+     */
+    public void subscribe(String sessionId, String topic) {
+        var subscriber = requireSubscriber(sessionId);
+        for (var key : resolveRoutingKeys(topic, subscriber.principal())) {
+            subscriber.keys().add(key);
+            routes.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        }
+        send(subscriber, toJson(new HubEvent(topic, "SUBSCRIBED", null, LocalDateTime.now())));
+    }
+
+    /**
+     * Unsubscribe a session from a public topic
+     */
+    public void unsubscribe(String sessionId, String topic) {
+        var subscriber = requireSubscriber(sessionId);
+        for (var key : resolveRoutingKeys(topic, subscriber.principal())) {
+            subscriber.keys().remove(key);
+            removeRoute(key, subscriber);
+        }
+        send(subscriber, toJson(new HubEvent(topic, "UNSUBSCRIBED", null, LocalDateTime.now())));
+    }
+
+    /**
+     * Send an error frame to a single session
+     */
+    public void sendError(String sessionId, String topic, String message) {
+        var subscriber = subscribers.get(sessionId);
+        if (subscriber != null) {
+            send(subscriber, toJson(new HubEvent(topic, "ERROR", Map.of("message", message), LocalDateTime.now())));
+        }
+    }
+
+    /**
+     * Publish a task change to task:{id} and to the owner's tasks:mine topic
+     */
+    public void publishTaskEvent(Task task) {
+        var payload = new TaskStatusEvent(task.getId(), task.getName(), task.getType(), task.getStatus(),
+                task.getCreatedBy(), task.getUpdatedAt());
+        afterCommit(() -> {
+            publish(TASK_TOPIC_PREFIX + task.getId(), TASK_TOPIC_PREFIX + task.getId(), "TASK_STATUS", payload);
+            if (task.getCreatedBy() != null) {
+                publish(USER_TASKS_KEY_PREFIX + task.getCreatedBy(), TOPIC_MY_TASKS, "TASK_STATUS", payload);
+            }
+        });
+    }
+
+    /**
+     * Publish the latest GPU status to the gpu topic
+     */
+    public void publishGpuStatus(Object payload) {
+        afterCommit(() -> publish(TOPIC_GPU, TOPIC_GPU, "GPU_STATUS", payload));
+    }
+
+    /**
+     * Publish a message change to everyone (public) or to its target user (private)
+     */
+    public void publishMessageEvent(Message message, String type) {
+        var payload = new MessageResponse(message.getId(), message.getMessageType(), message.getMessageContent(),
+                message.getVisibility(), message.getTargetUserId(), message.getCreatedAt());
+        afterCommit(() -> {
+            if (message.getVisibility() == MessageVisibility.PRIVATE && message.getTargetUserId() != null) {
+                publish(USER_MESSAGES_KEY_PREFIX + message.getTargetUserId(), TOPIC_MESSAGES, type, payload);
+            } else {
+                publish(TOPIC_MESSAGES, TOPIC_MESSAGES, type, payload);
+            }
+        });
+    }
+
+    /**
+     * Serialize once and deliver to every session routed by the key
+     */
+    private void publish(String routingKey, String topic, String type, Object payload) {
+        var targets = routes.get(routingKey);
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+        var json = toJson(new HubEvent(topic, type, payload, LocalDateTime.now()));
+        targets.forEach(subscriber -> send(subscriber, json));
+    }
+
+    /**
+     * Map a public topic to internal routing keys, enforcing access rules
+     */
+    private List<String> resolveRoutingKeys(String topic, JwtUserPrincipal principal) {
+        if (topic == null || topic.isBlank()) {
+            throw new ApiException(ApiErrorCode.MISSING_REQUIRED_FIELD, "topic is required");
+        }
+        if (TOPIC_GPU.equals(topic)) {
+            return List.of(TOPIC_GPU);
+        }
+        if (TOPIC_MESSAGES.equals(topic)) {
+            return List.of(TOPIC_MESSAGES, USER_MESSAGES_KEY_PREFIX + principal.getId());
+        }
+        if (TOPIC_MY_TASKS.equals(topic)) {
+            return List.of(USER_TASKS_KEY_PREFIX + principal.getId());
+        }
+        if (topic.startsWith(TASK_TOPIC_PREFIX)) {
+            UUID taskId;
+            try {
+                taskId = UUID.fromString(topic.substring(TASK_TOPIC_PREFIX.length()));
+            } catch (IllegalArgumentException e) {
+                throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "Invalid task id in topic");
+            }
+            var task = taskRepository.findById(taskId)
+                    .orElseThrow(() -> new ApiException(ApiErrorCode.TASK_NOT_FOUND));
+            if (principal.getRole() != UserRole.ADMIN && !principal.getId().equals(task.getCreatedBy())) {
+                throw new ApiException(ApiErrorCode.TASK_ACCESS_DENIED);
+            }
+            return List.of(TASK_TOPIC_PREFIX + taskId);
+        }
+        throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "Unknown topic: " + topic);
+    }
+
+    private Subscriber requireSubscriber(String sessionId) {
+        var subscriber = subscribers.get(sessionId);
+        if (subscriber == null) {
+            throw new ApiException(ApiErrorCode.UNAUTHORIZED);
+        }
+        return subscriber;
+    }
+
+    private void removeRoute(String key, Subscriber subscriber) {
+        routes.computeIfPresent(key, (k, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private void send(Subscriber subscriber, String json) {
+        var session = subscriber.session();
+        if (!session.isOpen()) {
+            unregister(session.getId());
+            return;
+        }
+        try {
+            session.sendMessage(new TextMessage(json));
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Dropping WebSocket session {} after send failure: {}", session.getId(), e.getMessage());
+            unregister(session.getId());
+        }
+    }
+
+    private String toJson(HubEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new ApiException(ApiErrorCode.INTERNAL_SERVER_ERROR, "Failed to serialize event", e);
+        }
+    }
+
+    /**
+     * Run the action once the surrounding transaction commits, or immediately when there is none
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Connected session with its principal and routing keys; compared by identity
+     */
+    private static final class Subscriber {
+
+        private final WebSocketSession session;
+        private final JwtUserPrincipal principal;
+        private final Set<String> keys = ConcurrentHashMap.newKeySet();
+
+        private Subscriber(WebSocketSession session, JwtUserPrincipal principal) {
+            this.session = session;
+            this.principal = principal;
+        }
+
+        WebSocketSession session() {
+            return session;
+        }
+
+        JwtUserPrincipal principal() {
+            return principal;
+        }
+
+        Set<String> keys() {
+            return keys;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package ai.synalix.synalixai.service;
+
+import ai.synalix.synalixai.repository.UserGpuPermissionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory index of GPU permissions: one {@link BitSet} of allowed GPU ids per user.
+ * <p>
+ * The index is loaded with a single query and replaced as a whole, so lookups never lock. Local
+ * permission updates patch it once their transaction commits; a periodic reload picks up changes
+ * made by other instances. Every patch bumps a generation counter, and a load is published only if no
+ * patch landed while it ran; otherwise it is repeated, so a reload that read the database before a
+ * commit can never overwrite that commit's patch.
+ */
+@Service
+public class GpuPermissionIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(GpuPermissionIndex.class);
+
+    private static final BitSet EMPTY = new BitSet();
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final UserGpuPermissionRepository userGpuPermissionRepository;
+
+    /**
+     * Current index; maps and bit sets are never modified after publication
+     */
+    private final AtomicReference<Map<UUID, BitSet>> index = new AtomicReference<>();
+
+    /**
+     * Number of patches applied so far; guarded by publishLock together with publishing a load
+     */
+    private long generation;
+
+    private final Object publishLock = new Object();
+
+    @Autowired
+    public GpuPermissionIndex(UserGpuPermissionRepository userGpuPermissionRepository) {
+        this.userGpuPermissionRepository = userGpuPermissionRepository;
+    }
+
+    /**
+     * Whether the user was granted the GPU
+     */
+    public boolean isPermitted(UUID userId, long gpuId) {
+        return gpuId >= 0 && gpuId <= Integer.MAX_VALUE && permissions(userId).get((int) gpuId);
+    }
+
+    /**
+     * Whether the user was granted every one of the GPUs
+     */
+    public boolean isPermittedAll(UUID userId, Collection<? extends Number> gpuIds) {
+        var allowed = permissions(userId);
+        for (var gpuId : gpuIds) {
+            var id = gpuId.longValue();
+            if (id < 0 || id > Integer.MAX_VALUE || !allowed.get((int) id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * GPU ids granted to the user, ascending
+     */
+    public List<Long> allowedGpuIds(UUID userId) {
+        return permissions(userId).stream().mapToObj(id -> (long) id).toList();
+    }
+
+    /**
+     * Replace the user's entry once the current transaction commits, or right away outside a transaction
+     */
+    public void replace(UUID userId, Collection<Long> gpuIds) {
+        var bits = new BitSet();
+        gpuIds.forEach(id -> bits.set(Math.toIntExact(id)));
+        Runnable patch = () -> {
+            synchronized (publishLock) {
+                generation++;
+                index.updateAndGet(current -> {
+                    if (current == null) {
+                        // Not loaded yet; the first lookup will read the committed state
+                        return null;
+                    }
+                    var next = new HashMap<>(current);
+                    if (bits.isEmpty()) {
+                        next.remove(userId);
+                    } else {
+                        next.put(userId, bits);
+                    }
+                    return Map.copyOf(next);
+                });
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    patch.run();
+                }
+            });
+        } else {
+            patch.run();
+        }
+    }
+
+    /**
+     * Rebuild the index from the database
+     */
+    @Scheduled(fixedDelayString = "${app.gpu-permissions.reload-interval-ms}",
+            initialDelayString = "${app.gpu-permissions.reload-interval-ms}")
+    public void reload() {
+        loadAndPublish();
+    }
+
+    private BitSet permissions(UUID userId) {
+        var current = index.get();
+        if (current == null) {
+            current = loadAndPublish();
+        }
+        return current.getOrDefault(userId, EMPTY);
+    }
+
+    /**
+     * Load the index and publish it unless a patch was applied meanwhile, retrying a few times
+     *
+     * @return the current index after the attempt
+     */
+    private Map<UUID, BitSet> loadAndPublish() {
+        for (var attempt = 1; attempt <= MAX_LOAD_ATTEMPTS; attempt++) {
+            long startGeneration;
+            synchronized (publishLock) {
+                startGeneration = generation;
+            }
+            var loaded = load();
+            synchronized (publishLock) {
+                if (generation == startGeneration) {
+                    index.set(loaded);
+                    return loaded;
+                }
+            }
+            logger.debug("GPU permissions changed during load, reloading: attempt={}", attempt);
+        }
+        // Patches keep arriving; keep the patched index and let the next reload catch up
+        var current = index.get();
+        return current != null ? current : load();
+    }
+
+    private Map<UUID, BitSet> load() {
+        Map<UUID, BitSet> loaded = new HashMap<>();
+        for (var row : userGpuPermissionRepository.findAllUserGpuPairs()) {
+            var gpuId = (Long) row[1];
+            if (gpuId == null || gpuId < 0 || gpuId > Integer.MAX_VALUE) {
+                continue;
+            }
+            loaded.computeIfAbsent((UUID) row[0], id -> new BitSet()).set(gpuId.intValue());
+        }
+        logger.debug("GPU permission index loaded: users={}", loaded.size());
+        return Map.copyOf(loaded);
+    }
+}
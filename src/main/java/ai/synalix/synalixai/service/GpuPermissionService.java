@@ -3,8 +3,8 @@ package ai.synalix.synalixai.service;
 import ai.synalix.synalixai.dto.gpu.UserGpuPermissionResponse;
 import ai.synalix.synalixai.entity.Resource;
 import ai.synalix.synalixai.entity.User;
-import ai.synalix.synalixai.entity.UserGpuPermission;
 import ai.synalix.synalixai.enums.ApiErrorCode;
+import ai.synalix.synalixai.enums.UserRole;
 import ai.synalix.synalixai.exception.ApiException;
 import ai.synalix.synalixai.repository.ResourceRepository;
 import ai.synalix.synalixai.repository.UserGpuPermissionRepository;
@@ -15,8 +15,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -30,14 +37,17 @@ public class GpuPermissionService {
     private final UserGpuPermissionRepository userGpuPermissionRepository;
     private final UserRepository userRepository;
     private final ResourceRepository resourceRepository;
+    private final GpuPermissionIndex gpuPermissionIndex;
 
     @Autowired
     public GpuPermissionService(UserGpuPermissionRepository userGpuPermissionRepository,
                                UserRepository userRepository,
-                               ResourceRepository resourceRepository) {
+                               ResourceRepository resourceRepository,
+                               GpuPermissionIndex gpuPermissionIndex) {
         this.userGpuPermissionRepository = userGpuPermissionRepository;
         this.userRepository = userRepository;
         this.resourceRepository = resourceRepository;
+        this.gpuPermissionIndex = gpuPermissionIndex;
     }
 
     /**
@@ -46,10 +56,7 @@ public class GpuPermissionService {
     public List<UserGpuPermissionResponse> getAllUserGpuPermissions() {
         var allUsers = userRepository.findAll();
         return allUsers.stream()
-                .map(user -> {
-                    var gpuIds = userGpuPermissionRepository.findGpuIdsByUserId(user.getId());
-                    return convertToResponse(user, gpuIds);
-                })
+                .map(user -> convertToResponse(user, gpuPermissionIndex.allowedGpuIds(user.getId())))
                 .collect(Collectors.toList());
     }
 
@@ -60,8 +67,7 @@ public class GpuPermissionService {
         var user = userRepository.findById(userId)
                 .orElseThrow(() -> new ApiException(ApiErrorCode.USER_NOT_FOUND));
         
-        var gpuIds = userGpuPermissionRepository.findGpuIdsByUserId(userId);
-        return convertToResponse(user, gpuIds);
+        return convertToResponse(user, gpuPermissionIndex.allowedGpuIds(userId));
     }
 
     /**
@@ -69,50 +75,106 @@ public class GpuPermissionService {
      */
     @Transactional
     public UserGpuPermissionResponse updateUserGpuPermission(UUID userId, List<Long> gpuIds) {
-        // Validate user exists
-        var user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(ApiErrorCode.USER_NOT_FOUND));
+        var permissions = new LinkedHashMap<UUID, List<Long>>();
+        permissions.put(userId, gpuIds != null ? gpuIds : List.of());
+        return updateUserGpuPermissions(permissions).get(0);
+    }
+
+    /**
+     * Replace the GPU permissions of several users in one transaction.
+     * Users and GPUs are validated with one query each; only the grants that actually change are
+     * inserted or deleted, in JDBC batches.
+     *
+     * @param permissions new GPU IDs per user, in response order
+     */
+    @Transactional
+    public List<UserGpuPermissionResponse> updateUserGpuPermissions(Map<UUID, List<Long>> permissions) {
+        // Validate all users exist
+        var users = userRepository.findAllById(permissions.keySet()).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        for (var userId : permissions.keySet()) {
+            if (!users.containsKey(userId)) {
+                throw new ApiException(ApiErrorCode.USER_NOT_FOUND, Map.of("userId", userId.toString()));
+            }
+        }
 
         // Validate all GPU IDs exist
-        if (gpuIds != null && !gpuIds.isEmpty()) {
-            for (Long gpuId : gpuIds) {
-                if (!resourceRepository.existsById(gpuId)) {
+        var requestedGpuIds = permissions.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toSet());
+        if (!requestedGpuIds.isEmpty()) {
+            var existingGpuIds = resourceRepository.findAllById(requestedGpuIds).stream()
+                    .map(Resource::getId)
+                    .collect(Collectors.toSet());
+            for (var gpuId : requestedGpuIds) {
+                if (!existingGpuIds.contains(gpuId)) {
                     throw new ApiException(ApiErrorCode.RESOURCE_NOT_FOUND, "GPU with ID " + gpuId + " not found");
                 }
             }
         }
 
-        // Delete existing permissions
-        userGpuPermissionRepository.deleteByUserId(userId);
-
-        // Create new permissions
-        if (gpuIds != null && !gpuIds.isEmpty()) {
-            for (Long gpuId : gpuIds) {
-                var permission = new UserGpuPermission();
-                permission.setUserId(userId);
-                permission.setGpuId(gpuId);
-                userGpuPermissionRepository.save(permission);
-            }
+        // Diff against the current grants
+        Map<UUID, Set<Long>> current = new HashMap<>();
+        for (var permission : userGpuPermissionRepository.findByUserIdIn(permissions.keySet())) {
+            current.computeIfAbsent(permission.getUserId(), id -> new HashSet<>()).add(permission.getGpuId());
         }
+        Map<UUID, Set<Long>> grants = new HashMap<>();
+        Map<UUID, Set<Long>> revocations = new HashMap<>();
+        permissions.forEach((userId, gpuIds) -> {
+            var target = new HashSet<>(gpuIds);
+            var existing = current.getOrDefault(userId, Set.of());
+            var added = new HashSet<>(target);
+            added.removeAll(existing);
+            var removed = new HashSet<>(existing);
+            removed.removeAll(target);
+            if (!added.isEmpty()) {
+                grants.put(userId, added);
+            }
+            if (!removed.isEmpty()) {
+                revocations.put(userId, removed);
+            }
+        });
+
+        var deleted = userGpuPermissionRepository.batchDelete(revocations);
+        var inserted = userGpuPermissionRepository.batchInsert(grants);
+        permissions.forEach(gpuPermissionIndex::replace);
 
-        logger.info("Updated GPU permissions for user: id={}, username={}, gpuIds={}", 
-                   userId, user.getUsername(), gpuIds);
+        logger.info("Updated GPU permissions: users={}, inserted={}, deleted={}",
+                permissions.size(), inserted, deleted);
 
-        return convertToResponse(user, gpuIds != null ? gpuIds : List.of());
+        return permissions.entrySet().stream()
+                .map(entry -> convertToResponse(users.get(entry.getKey()), entry.getValue()))
+                .collect(Collectors.toList());
     }
 
     /**
      * Check if a user has permission to use a specific GPU
      */
     public boolean hasGpuPermission(UUID userId, Long gpuId) {
-        return userGpuPermissionRepository.existsByUserIdAndGpuId(userId, gpuId);
+        return gpuPermissionIndex.isPermitted(userId, gpuId);
     }
 
     /**
      * Get all allowed GPU IDs for a user
      */
     public List<Long> getAllowedGpuIds(UUID userId) {
-        return userGpuPermissionRepository.findGpuIdsByUserId(userId);
+        return gpuPermissionIndex.allowedGpuIds(userId);
+    }
+
+    /**
+     * Ensure a user may run on the given GPUs; administrators may use every GPU
+     */
+    public void checkGpuAccess(UUID userId, Collection<? extends Number> gpuIds) {
+        if (gpuIds == null || gpuIds.isEmpty() || gpuPermissionIndex.isPermittedAll(userId, gpuIds)) {
+            return;
+        }
+        var isAdmin = userRepository.findById(userId)
+                .map(user -> user.getRole() == UserRole.ADMIN)
+                .orElse(false);
+        if (!isAdmin) {
+            throw new ApiException(ApiErrorCode.GPU_ACCESS_DENIED,
+                    "Not permitted to use GPUs " + gpuIds);
+        }
     }
 
     /**
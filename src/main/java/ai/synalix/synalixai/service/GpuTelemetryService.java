@@ -0,0 +1,283 @@
+package ai.synalix.synalixai.service;
+
+import ai.synalix.synalixai.dto.gpu.GpuHistoryResponse;
+import ai.synalix.synalixai.dto.gpu.ResourceDetail;
+import ai.synalix.synalixai.enums.ApiErrorCode;
+import ai.synalix.synalixai.enums.TelemetryResolution;
+import ai.synalix.synalixai.exception.ApiException;
+import ai.synalix.synalixai.repository.GpuTelemetryRollupRepository;
+import ai.synalix.synalixai.util.TelemetryRingBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * GPU telemetry history.
+ * <p>
+ * Each GPU status poll appends one sample per GPU to that GPU's in-memory ring buffer. A scheduled job
+ * rolls completed minutes of samples up into minute aggregates in Postgres, and completed hours of minute
+ * aggregates into hour aggregates. Recent history is served from the rings at full resolution; longer
+ * ranges come from the rollups.
+ */
+@Service
+public class GpuTelemetryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GpuTelemetryService.class);
+
+    private static final long MINUTE_MS = 60_000L;
+    private static final long HOUR_MS = 3_600_000L;
+    private static final Duration RAW_MAX_SPAN = Duration.ofHours(2);
+    private static final Duration MINUTE_MAX_SPAN = Duration.ofDays(2);
+    private static final Pattern NUMBER = Pattern.compile("[-+]?\\d+(\\.\\d+)?");
+
+    @Value("${app.gpu-telemetry.ring-capacity}")
+    private int ringCapacity;
+
+    @Value("${app.gpu-telemetry.minute-retention-days}")
+    private int minuteRetentionDays;
+
+    @Value("${app.gpu-telemetry.hour-retention-days}")
+    private int hourRetentionDays;
+
+    private final GpuTelemetryRollupRepository rollupRepository;
+
+    private final Map<Long, TelemetryRingBuffer> rings = new ConcurrentHashMap<>();
+
+    /**
+     * Start of the first minute not yet rolled up, or -1 before the first rollup
+     */
+    private long rolledUpToMinute = -1;
+
+    /**
+     * Start of the first hour not yet rolled up, or -1 before the first rollup
+     */
+    private long rolledUpToHour = -1;
+
+    @Autowired
+    public GpuTelemetryService(GpuTelemetryRollupRepository rollupRepository) {
+        this.rollupRepository = rollupRepository;
+    }
+
+    /**
+     * Append one sample per GPU from a fresh GPU status snapshot
+     */
+    public void record(List<ResourceDetail> details, LocalDateTime fetchedAt) {
+        var timestamp = toEpochMillis(fetchedAt);
+        for (var detail : details) {
+            if (detail.getId() == null) {
+                continue;
+            }
+            rings.computeIfAbsent(detail.getId(), id -> new TelemetryRingBuffer(ringCapacity))
+                    .add(timestamp,
+                            parseTenths(detail.getUtilization()),
+                            parseTenths(detail.getTemperature()),
+                            detail.getMemoryUsed() != null ? detail.getMemoryUsed() : 0);
+        }
+    }
+
+    /**
+     * Roll completed minutes up from the rings, then completed hours up from the minute rollups
+     */
+    @Scheduled(fixedDelayString = "${app.gpu-telemetry.rollup-interval-ms}")
+    public synchronized void rollUp() {
+        var now = System.currentTimeMillis();
+        var currentMinute = now - Math.floorMod(now, MINUTE_MS);
+        if (rolledUpToMinute < 0) {
+            var oldest = rings.values().stream()
+                    .mapToLong(TelemetryRingBuffer::oldestTimestamp)
+                    .filter(t -> t >= 0)
+                    .min();
+            if (oldest.isEmpty()) {
+                return;
+            }
+            rolledUpToMinute = oldest.getAsLong() - Math.floorMod(oldest.getAsLong(), MINUTE_MS);
+        }
+
+        var minutes = 0;
+        for (var minute = rolledUpToMinute; minute < currentMinute; minute += MINUTE_MS) {
+            for (var entry : rings.entrySet()) {
+                var samples = entry.getValue().range(minute, minute + MINUTE_MS);
+                if (samples.size() > 0) {
+                    insertMinute(entry.getKey(), minute, samples);
+                }
+            }
+            minutes++;
+        }
+        rolledUpToMinute = currentMinute;
+
+        var currentHour = now - Math.floorMod(now, HOUR_MS);
+        if (rolledUpToHour < 0) {
+            // Also cover the previous hour in case it was not rolled up before a restart
+            rolledUpToHour = currentHour - HOUR_MS;
+        }
+        for (var hour = rolledUpToHour; hour < currentHour; hour += HOUR_MS) {
+            rollupRepository.rollUpHour(toLocalDateTime(hour), toLocalDateTime(hour + HOUR_MS));
+            purgeExpired();
+        }
+        rolledUpToHour = currentHour;
+
+        if (minutes > 0) {
+            logger.debug("GPU telemetry rolled up: minutes={}, gpus={}", minutes, rings.size());
+        }
+    }
+
+    /**
+     * Get the telemetry history of a GPU. Without an explicit resolution, ranges up to two hours are
+     * served raw from memory, up to two days from minute rollups and longer ones from hour rollups.
+     */
+    public GpuHistoryResponse getHistory(Long gpuId, LocalDateTime from, LocalDateTime to,
+                                         TelemetryResolution resolution) {
+        var end = to != null ? to : LocalDateTime.now();
+        var start = from != null ? from : end.minus(Duration.ofHours(1));
+        if (!start.isBefore(end)) {
+            throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "from must be before to");
+        }
+        if (resolution == null) {
+            var span = Duration.between(start, end);
+            resolution = span.compareTo(RAW_MAX_SPAN) <= 0 ? TelemetryResolution.RAW
+                    : span.compareTo(MINUTE_MAX_SPAN) <= 0 ? TelemetryResolution.MINUTE
+                    : TelemetryResolution.HOUR;
+        }
+
+        if (resolution == TelemetryResolution.RAW) {
+            var ring = rings.get(gpuId);
+            var samples = ring != null
+                    ? ring.range(toEpochMillis(start), toEpochMillis(end))
+                    : new TelemetryRingBuffer.Samples(new long[0], new int[0], new int[0], new int[0]);
+            return new GpuHistoryResponse(gpuId, resolution, samples.size(),
+                    deltaEncode(samples.timestamps()),
+                    deltaEncode(withMissingAsNegative(samples.utilization())),
+                    deltaEncode(withMissingAsNegative(samples.temperature())),
+                    deltaEncode(samples.memoryUsed()),
+                    null);
+        }
+
+        var rollups = rollupRepository.findRange(gpuId, resolution, start, end);
+        var count = rollups.size();
+        var timestamps = new long[count];
+        var utilization = new int[count];
+        var temperature = new int[count];
+        var memoryUsed = new int[count];
+        var utilizationMax = new int[count];
+        for (var i = 0; i < count; i++) {
+            var rollup = rollups.get(i);
+            timestamps[i] = toEpochMillis(rollup.getBucketStart());
+            utilization[i] = roundOrMissing(rollup.getUtilizationAvg());
+            temperature[i] = roundOrMissing(rollup.getTemperatureAvg());
+            memoryUsed[i] = (int) Math.round(rollup.getMemoryUsedAvg());
+            utilizationMax[i] = rollup.getUtilizationMax() != null ? rollup.getUtilizationMax() : -1;
+        }
+        return new GpuHistoryResponse(gpuId, resolution, count,
+                deltaEncode(timestamps), deltaEncode(utilization), deltaEncode(temperature),
+                deltaEncode(memoryUsed), deltaEncode(utilizationMax));
+    }
+
+    private void insertMinute(Long gpuId, long minute, TelemetryRingBuffer.Samples samples) {
+        var utilization = new Aggregate();
+        var temperature = new Aggregate();
+        var memory = new Aggregate();
+        for (var i = 0; i < samples.size(); i++) {
+            utilization.add(samples.utilization()[i]);
+            temperature.add(samples.temperature()[i]);
+            memory.add(samples.memoryUsed()[i]);
+        }
+        rollupRepository.insertMinute(gpuId, toLocalDateTime(minute), samples.size(),
+                utilization.average(), utilization.max(),
+                temperature.average(), temperature.max(),
+                memory.average(), memory.max());
+    }
+
+    private void purgeExpired() {
+        var now = LocalDateTime.now();
+        rollupRepository.deleteOlderThan(TelemetryResolution.MINUTE, now.minusDays(minuteRetentionDays));
+        rollupRepository.deleteOlderThan(TelemetryResolution.HOUR, now.minusDays(hourRetentionDays));
+    }
+
+    /**
+     * Running sum and maximum over readings, skipping missing ones
+     */
+    private static final class Aggregate {
+
+        private long sum;
+        private int count;
+        private int max = Integer.MIN_VALUE;
+
+        void add(int value) {
+            if (value == TelemetryRingBuffer.MISSING) {
+                return;
+            }
+            sum += value;
+            count++;
+            max = Math.max(max, value);
+        }
+
+        Double average() {
+            return count == 0 ? null : (double) sum / count;
+        }
+
+        Integer max() {
+            return count == 0 ? null : max;
+        }
+    }
+
+    /**
+     * Parse readings such as "37%" or "33°C" into tenths
+     */
+    static int parseTenths(String reading) {
+        if (reading == null) {
+            return TelemetryRingBuffer.MISSING;
+        }
+        var matcher = NUMBER.matcher(reading);
+        if (!matcher.find()) {
+            return TelemetryRingBuffer.MISSING;
+        }
+        return (int) Math.round(Double.parseDouble(matcher.group()) * 10);
+    }
+
+    private static int[] withMissingAsNegative(int[] values) {
+        for (var i = 0; i < values.length; i++) {
+            if (values[i] == TelemetryRingBuffer.MISSING) {
+                values[i] = -1;
+            }
+        }
+        return values;
+    }
+
+    private static int roundOrMissing(Double value) {
+        return value != null ? (int) Math.round(value) : -1;
+    }
+
+    private static long[] deltaEncode(long[] values) {
+        for (var i = values.length - 1; i > 0; i--) {
+            values[i] -= values[i - 1];
+        }
+        return values;
+    }
+
+    private static int[] deltaEncode(int[] values) {
+        for (var i = values.length - 1; i > 0; i--) {
+            values[i] -= values[i - 1];
+        }
+        return values;
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,209 @@
+package ai.synalix.synalixai.service;
+
+import ai.synalix.synalixai.entity.IdempotencyRecord;
+import ai.synalix.synalixai.enums.IdempotencyStatus;
+import ai.synalix.synalixai.repository.IdempotencyRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key bookkeeping for mutating endpoints.
+ * <p>
+ * The first request with a (user, key) pair claims it with an atomic insert and runs; its response is then
+ * stored for the replay window. Duplicates arriving while it runs wait for the stored response: requests on
+ * the same instance are woken directly, requests on other instances poll the table with backoff. Each wait
+ * is bounded by the wait timeout and the number of waiting threads is capped, so duplicates cannot pile up
+ * on request threads; a duplicate that cannot wait is told the request is still in progress. A claim whose
+ * lease expires (e.g. the instance crashed mid-request) can be taken over by the next duplicate.
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+    private static final long MIN_POLL_INTERVAL_MS = 50;
+    private static final long MAX_POLL_INTERVAL_MS = 1000;
+    private static final int CLEANUP_BATCH_SIZE = 1000;
+
+    @Value("${app.idempotency.ttl-ms}")
+    private long ttlMs;
+
+    @Value("${app.idempotency.in-flight-timeout-ms}")
+    private long inFlightTimeoutMs;
+
+    @Value("${app.idempotency.wait-timeout-ms}")
+    private long waitTimeoutMs;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+
+    /**
+     * Permits for duplicates waiting on an in-flight execution
+     */
+    private final Semaphore waiters;
+
+    /**
+     * Completion signals for executions running on this instance, keyed by user and key
+     */
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              @Value("${app.idempotency.max-waiters}") int maxWaiters) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.waiters = new Semaphore(maxWaiters);
+    }
+
+    /**
+     * Try to claim the key for a new execution
+     *
+     * @return the claim id if this caller should execute the request, or empty if a live record exists
+     */
+    public Optional<UUID> claim(UUID userId, String key, String requestHash) {
+        var id = UUID.randomUUID();
+        var now = LocalDateTime.now();
+        var claimed = idempotencyRecordRepository.claim(
+                id, userId, key, requestHash, now, now.plusNanos(inFlightTimeoutMs * 1_000_000L));
+        if (claimed == 0) {
+            return Optional.empty();
+        }
+        inFlight.put(signalKey(userId, key), new CompletableFuture<>());
+        return Optional.of(id);
+    }
+
+    /**
+     * Current record for the key, if any
+     */
+    public Optional<IdempotencyRecord> find(UUID userId, String key) {
+        return idempotencyRecordRepository.findByUserIdAndIdempotencyKey(userId, key);
+    }
+
+    /**
+     * Wait, at most the wait timeout in total, until the record for the key is no longer in progress
+     *
+     * @return the completed record, or empty if it was released, expired, the wait timed out or too many
+     * duplicates are already waiting
+     */
+    public Optional<IdempotencyRecord> awaitCompletion(UUID userId, String key) {
+        if (!waiters.tryAcquire()) {
+            return Optional.empty();
+        }
+        try {
+            return waitForCompletion(userId, key, System.currentTimeMillis() + waitTimeoutMs);
+        } finally {
+            waiters.release();
+        }
+    }
+
+    private Optional<IdempotencyRecord> waitForCompletion(UUID userId, String key, long deadline) {
+        var signal = inFlight.get(signalKey(userId, key));
+        if (signal != null) {
+            try {
+                signal.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                return Optional.empty();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            } catch (Exception e) {
+                // Completed exceptionally: fall through and read whatever the owner left behind
+            }
+        }
+
+        var interval = MIN_POLL_INTERVAL_MS;
+        while (true) {
+            var record = find(userId, key);
+            if (record.isEmpty() || record.get().getStatus() == IdempotencyStatus.COMPLETED) {
+                return record;
+            }
+            var remaining = deadline - System.currentTimeMillis();
+            if (record.get().getExpiresAt().isBefore(LocalDateTime.now()) || remaining <= 0) {
+                return Optional.empty();
+            }
+            try {
+                Thread.sleep(Math.min(interval, remaining));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+            interval = Math.min(interval * 2, MAX_POLL_INTERVAL_MS);
+        }
+    }
+
+    /**
+     * Store the response of a claimed execution and wake local waiters
+     */
+    public void complete(UUID claimId, UUID userId, String key, int status, String contentType, byte[] body) {
+        try {
+            idempotencyRecordRepository.complete(claimId, status, contentType, body,
+                    LocalDateTime.now().plusNanos(ttlMs * 1_000_000L));
+        } finally {
+            signal(userId, key);
+        }
+    }
+
+    /**
+     * Mark a claimed execution as done without storing its response, and wake local waiters; the key stays
+     * claimed for the replay window so the request cannot run twice
+     */
+    public void completeWithoutBody(UUID claimId, UUID userId, String key, int status) {
+        try {
+            idempotencyRecordRepository.completeWithoutBody(claimId, status,
+                    LocalDateTime.now().plusNanos(ttlMs * 1_000_000L));
+        } finally {
+            signal(userId, key);
+        }
+    }
+
+    /**
+     * Drop a claimed execution so the key can be retried, and wake local waiters
+     */
+    public void release(UUID claimId, UUID userId, String key) {
+        try {
+            idempotencyRecordRepository.release(claimId);
+        } finally {
+            signal(userId, key);
+        }
+    }
+
+    /**
+     * Periodically delete expired records in bounded batches
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.cleanup-interval-ms}",
+            initialDelayString = "${app.idempotency.cleanup-interval-ms}")
+    public void purgeExpired() {
+        var total = 0;
+        int deleted;
+        do {
+            deleted = idempotencyRecordRepository.deleteExpired(LocalDateTime.now(), CLEANUP_BATCH_SIZE);
+            total += deleted;
+        } while (deleted == CLEANUP_BATCH_SIZE);
+        if (total > 0) {
+            logger.debug("Expired idempotency records deleted: count={}", total);
+        }
+    }
+
+    private void signal(UUID userId, String key) {
+        var signal = inFlight.remove(signalKey(userId, key));
+        if (signal != null) {
+            signal.complete(null);
+        }
+    }
+
+    private static String signalKey(UUID userId, String key) {
+        return userId + ":" + key;
+    }
+}
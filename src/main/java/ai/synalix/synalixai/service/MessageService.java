@@ -24,14 +24,17 @@ public class MessageService {
     private final MessageRepository messageRepository;
     private final UserRepository userRepository;
     private final AuditService auditService;
+    private final EventHubService eventHubService;
 
     @Autowired
     public MessageService(MessageRepository messageRepository,
                           UserRepository userRepository,
-                          AuditService auditService) {
+                          AuditService auditService,
+                          EventHubService eventHubService) {
         this.messageRepository = messageRepository;
         this.userRepository = userRepository;
         this.auditService = auditService;
+        this.eventHubService = eventHubService;
     }
 
     /**
@@ -65,6 +68,7 @@ public class MessageService {
                 "targetUserId", saved.getTargetUserId() != null ? saved.getTargetUserId().toString() : ""
             )
         );
+        eventHubService.publishMessageEvent(saved, "MESSAGE_CREATED");
 
         return saved;
     }
@@ -121,5 +125,6 @@ public class MessageService {
                 "targetUserId", message.getTargetUserId() != null ? message.getTargetUserId().toString() : ""
             )
         );
+        eventHubService.publishMessageEvent(message, "MESSAGE_DELETED");
     }
 }
@@ -9,6 +9,8 @@ import io.minio.GetObjectArgs;
 import io.minio.MinioClient;
 import io.minio.PutObjectArgs;
 import io.minio.RemoveObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.errors.ErrorResponseException;
 import io.minio.http.Method;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -106,6 +108,27 @@ public class MinioService {
         return generatePresignedUrl(minioConfig.getCheckpointsBucket(), storageKey, Method.GET);
     }
 
+    /**
+     * Generate a presigned URL for downloading an audit log export
+     *
+     * @param storageKey the storage key of the export
+     * @return presigned URL response with download URL
+     */
+    public PresignedUrlResponse generateAuditExportDownloadUrl(String storageKey) {
+        return generatePresignedUrl(minioConfig.getExportsBucket(), storageKey, Method.GET);
+    }
+
+    /**
+     * Generate storage key for an audit log export
+     *
+     * @param exportId  the export ID
+     * @param extension the file extension including the dot
+     * @return the storage key
+     */
+    public String generateAuditExportStorageKey(UUID exportId, String extension) {
+        return String.format("audit-exports/%s/audit-logs%s", exportId.toString(), extension);
+    }
+
     /**
      * Generate storage key for a dataset file
      *
@@ -233,6 +256,34 @@ public class MinioService {
         }
     }
 
+    /**
+     * Upload an audit log export of unknown length to the exports bucket.
+     * The stream is sent as a multipart upload, so at most one part is buffered in memory;
+     * if reading the stream fails the upload is aborted and no object is created.
+     *
+     * @param objectName  the object name
+     * @param stream      the input stream, read until end of stream
+     * @param contentType the object content type
+     * @param partSize    multipart part size in bytes, at least 5 MiB
+     */
+    public void uploadAuditExport(String objectName, InputStream stream, String contentType, long partSize) {
+        var bucketName = minioConfig.getExportsBucket();
+        try {
+            minioClient.putObject(
+                    PutObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .stream(stream, -1, partSize)
+                            .contentType(contentType)
+                            .build());
+            log.debug("Audit export uploaded successfully to {}/{}", bucketName, objectName);
+        } catch (Exception e) {
+            log.error("Failed to upload audit export to {}/{}: {}", bucketName, objectName, e.getMessage());
+            throw new ApiException(ApiErrorCode.STORAGE_ERROR,
+                    "Failed to upload audit export: " + e.getMessage());
+        }
+    }
+
     /**
      * Delete a file from MinIO
      *
@@ -255,22 +306,54 @@ public class MinioService {
     }
 
     /**
-     * Get task logs content
+     * Get the current size of a task log object
+     *
+     * @param taskId the task ID
+     * @return the object size in bytes, or -1 if the log does not exist yet
+     */
+    public long getTaskLogSize(UUID taskId) {
+        var objectName = taskId.toString() + ".log";
+        try {
+            var stat = minioClient.statObject(
+                    StatObjectArgs.builder()
+                            .bucket(minioConfig.getLogsBucket())
+                            .object(objectName)
+                            .build());
+            return stat.size();
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                return -1;
+            }
+            log.error("Failed to stat logs for task {}: {}", taskId, e.getMessage());
+            throw new ApiException(ApiErrorCode.STORAGE_ERROR, "Failed to read task logs: " + e.getMessage());
+        } catch (Exception e) {
+            log.error("Failed to stat logs for task {}: {}", taskId, e.getMessage());
+            throw new ApiException(ApiErrorCode.STORAGE_ERROR, "Failed to read task logs: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Open a byte range of a task log object with a ranged GetObject call.
+     * The caller must close the returned stream.
      *
      * @param taskId the task ID
-     * @return the log content
+     * @param offset the first byte to read
+     * @param length the number of bytes to read
+     * @return stream over the requested range
      */
-    public String getTaskLogs(UUID taskId) {
+    public InputStream openTaskLogRange(UUID taskId, long offset, long length) {
         var objectName = taskId.toString() + ".log";
-        try (InputStream stream = minioClient.getObject(
-                GetObjectArgs.builder()
-                        .bucket(minioConfig.getLogsBucket())
-                        .object(objectName)
-                        .build())) {
-            return new String(stream.readAllBytes(), java.nio.charset.StandardCharsets.UTF_8);
+        try {
+            return minioClient.getObject(
+                    GetObjectArgs.builder()
+                            .bucket(minioConfig.getLogsBucket())
+                            .object(objectName)
+                            .offset(offset)
+                            .length(length)
+                            .build());
         } catch (Exception e) {
-            log.warn("Failed to retrieve logs for task {}: {}", taskId, e.getMessage());
-            return "No logs available for task " + taskId;
+            log.error("Failed to read logs for task {} at offset {}: {}", taskId, offset, e.getMessage());
+            throw new ApiException(ApiErrorCode.STORAGE_ERROR, "Failed to read task logs: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
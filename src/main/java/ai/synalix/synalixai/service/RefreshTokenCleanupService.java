@@ -0,0 +1,84 @@
+package ai.synalix.synalixai.service;
+
+import ai.synalix.synalixai.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+
+/**
+ * Periodically purges expired and long-revoked refresh tokens.
+ * Rows are deleted in bounded chunks, each in its own short transaction, so the job never holds
+ * locks on a large part of the table.
+ */
+@Service
+public class RefreshTokenCleanupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenCleanupService.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    private final Counter expiredPurged;
+    private final Counter revokedPurged;
+    private final Timer purgeTimer;
+
+    @Value("${app.refresh-token-cleanup.batch-size}")
+    private int batchSize;
+
+    @Value("${app.refresh-token-cleanup.revoked-retention-hours}")
+    private long revokedRetentionHours;
+
+    @Autowired
+    public RefreshTokenCleanupService(RefreshTokenRepository refreshTokenRepository, MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.expiredPurged = Counter.builder("refresh_tokens.purged")
+                .description("Refresh tokens deleted by the cleanup job")
+                .tag("reason", "expired")
+                .register(meterRegistry);
+        this.revokedPurged = Counter.builder("refresh_tokens.purged")
+                .description("Refresh tokens deleted by the cleanup job")
+                .tag("reason", "revoked")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("refresh_tokens.purge")
+                .description("Duration of a refresh token cleanup run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Delete expired tokens and tokens revoked longer than the retention period
+     */
+    @Scheduled(fixedDelayString = "${app.refresh-token-cleanup.interval-ms}",
+            initialDelayString = "${app.refresh-token-cleanup.interval-ms}")
+    public void purge() {
+        purgeTimer.record(() -> {
+            var now = LocalDateTime.now();
+            var revokedCutoff = now.minusHours(revokedRetentionHours);
+            var expired = deleteInChunks(() -> refreshTokenRepository.deleteExpiredTokens(now, batchSize));
+            var revoked = deleteInChunks(
+                    () -> refreshTokenRepository.deleteRevokedTokensOlderThan(revokedCutoff, batchSize));
+            expiredPurged.increment(expired);
+            revokedPurged.increment(revoked);
+            if (expired + revoked > 0) {
+                logger.info("Refresh tokens purged: expired={}, revoked={}", expired, revoked);
+            }
+        });
+    }
+
+    private int deleteInChunks(IntSupplier deleteChunk) {
+        var total = 0;
+        int deleted;
+        do {
+            deleted = deleteChunk.getAsInt();
+            total += deleted;
+        } while (deleted == batchSize);
+        return total;
+    }
+}
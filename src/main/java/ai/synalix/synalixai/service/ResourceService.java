@@ -4,24 +4,64 @@ import ai.synalix.synalixai.dto.gpu.ResourceDetail;
 import ai.synalix.synalixai.dto.gpu.GpuStatusResponse;
 import ai.synalix.synalixai.entity.Resource;
 import ai.synalix.synalixai.enums.ApiErrorCode;
+import ai.synalix.synalixai.enums.ResourceStatus;
 import ai.synalix.synalixai.exception.ApiException;
 import ai.synalix.synalixai.repository.ResourceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
- * Resource management service
+ * Resource management service.
+ * GPU status is polled from the backend in the background and served from an in-memory snapshot.
+ * The resources table only follows slowly changing state: a row is rewritten when its name, status or
+ * total memory changes, or when its used memory has moved by more than a threshold since it was last
+ * written. GPU status events are published on change, at most once per minimum interval.
  */
 @Service
 public class ResourceService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ResourceService.class);
+
     private final ResourceRepository resourceRepository;
     private final RestTemplate restTemplate;
+    private final EventHubService eventHubService;
+    private final BackendCircuitBreaker backendCircuitBreaker;
+    private final GpuTelemetryService gpuTelemetryService;
+
+    /**
+     * Latest GPU status; replaced wholesale by the poller so readers never need a lock
+     */
+    private final AtomicReference<GpuStatusResponse> snapshot = new AtomicReference<>();
+
+    /**
+     * Serializes backend polls between the scheduler and a first on-demand fetch
+     */
+    private final Object pollLock = new Object();
+
+    /**
+     * Last state written to the resources table per GPU; guarded by pollLock
+     */
+    private final Map<Long, ResourceDetail> persisted = new HashMap<>();
+
+    /**
+     * Details last published as a GPU status event and when; guarded by pollLock
+     */
+    private List<ResourceDetail> lastPublished = List.of();
+    private long lastPublishedAt;
 
     /**
      * Backend base URL, from env BACKEND or default http://123.249.124.73:8080
@@ -29,10 +69,23 @@ public class ResourceService {
     @Value("${app.backend-base-url}")
     private String backendBaseUrl;
 
+    @Value("${app.gpu-status.persist-memory-delta-mb}")
+    private int persistMemoryDeltaMb;
+
+    @Value("${app.gpu-status.event-min-interval-ms}")
+    private long eventMinIntervalMs;
+
     @Autowired
-    public ResourceService(ResourceRepository resourceRepository, RestTemplate restTemplate) {
+    public ResourceService(ResourceRepository resourceRepository,
+                           @Qualifier("backendStatusRestTemplate") RestTemplate restTemplate,
+                           EventHubService eventHubService,
+                           BackendCircuitBreaker backendCircuitBreaker,
+                           GpuTelemetryService gpuTelemetryService) {
         this.resourceRepository = resourceRepository;
         this.restTemplate = restTemplate;
+        this.eventHubService = eventHubService;
+        this.backendCircuitBreaker = backendCircuitBreaker;
+        this.gpuTelemetryService = gpuTelemetryService;
     }
 
     /**
@@ -51,35 +104,120 @@ public class ResourceService {
     }
 
     /**
-     * Fetch GPU status from external backend: {$BACKEND}/api/gpu/status
+     * Current GPU status snapshot, maintained by {@link #pollGpuStatus()}.
+     * While the backend is failing, the snapshot is the last known status with {@code stale} set.
      *
-     * @return GPU status response
-     * @throws ApiException when external call fails
+     * @return GPU status response; callers must not modify it
+     * @throws ApiException when no status has been fetched yet and the backend is unavailable
      */
     public GpuStatusResponse getGpuStatus() {
+        var current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        // Nothing polled yet (e.g. right after startup): fetch once on the caller's thread
+        synchronized (pollLock) {
+            current = snapshot.get();
+            return current != null ? current : refreshSnapshot();
+        }
+    }
+
+    /**
+     * Refresh the GPU status snapshot from {$BACKEND}/api/gpu/status
+     */
+    @Scheduled(fixedDelayString = "${app.gpu-status.poll-interval-ms}")
+    public void pollGpuStatus() {
+        try {
+            synchronized (pollLock) {
+                refreshSnapshot();
+            }
+        } catch (Exception e) {
+            logger.debug("GPU status poll failed: {}", e.getMessage());
+        }
+    }
+
+    private GpuStatusResponse refreshSnapshot() {
         var url = backendBaseUrl.endsWith("/")
                 ? backendBaseUrl + "api/gpu/status"
                 : backendBaseUrl + "/api/gpu/status";
-        try {
-            var response = restTemplate.getForObject(url, GpuStatusResponse.class);
-            if (response != null && response.getGpuDetails() != null) {
-                var resources = response.getGpuDetails().stream()
-                        .map(detail -> {
-                            var r = new Resource();
-                            r.setId(detail.getId());
-                            r.setName(detail.getName());
-                            r.setStatus(detail.getStatus());
-                            r.setMemoryTotal(detail.getMemoryTotal());
-                            r.setMemoryUsed(detail.getMemoryUsed());
-                            return r;
-                        })
-                        .toList();
-                resourceRepository.deleteAll();
-                resourceRepository.saveAll(resources);
+        var result = backendCircuitBreaker.read(BackendCircuitBreaker.GPU_STATUS, "all",
+                () -> restTemplate.getForObject(url, GpuStatusResponse.class));
+        var response = result.value();
+        var details = response != null && response.getGpuDetails() != null
+                ? List.copyOf(response.getGpuDetails())
+                : List.<ResourceDetail>of();
+        var next = new GpuStatusResponse(
+                response != null ? response.getTotalGpus() : 0,
+                response != null ? response.getAvailableGpus() : 0,
+                details, result.stale(), result.fetchedAt());
+
+        if (!result.stale()) {
+            persistChanges(details, snapshot.get() == null);
+            gpuTelemetryService.record(details, result.fetchedAt());
+            publishIfChanged(details);
+        }
+        snapshot.set(next);
+        return next;
+    }
+
+    /**
+     * Publish a GPU status event if the details changed since the last event and the minimum interval has
+     * passed; a change within the interval goes out with the first poll after it
+     */
+    private void publishIfChanged(List<ResourceDetail> details) {
+        var now = System.currentTimeMillis();
+        if (details.equals(lastPublished) || now - lastPublishedAt < eventMinIntervalMs) {
+            return;
+        }
+        eventHubService.publishGpuStatus(details);
+        lastPublished = details;
+        lastPublishedAt = now;
+    }
+
+    /**
+     * Upsert resources whose persisted state changed and delete GPUs the backend no longer reports.
+     * The first snapshot after startup writes every row, since the table may hold an older state.
+     */
+    private void persistChanges(List<ResourceDetail> current, boolean initial) {
+        var now = LocalDateTime.now();
+        var currentIds = new HashSet<Long>();
+        for (var detail : current) {
+            if (detail.getId() == null) {
+                continue;
+            }
+            currentIds.add(detail.getId());
+            var before = persisted.get(detail.getId());
+            if (initial || before == null || !samePersistedState(before, detail)) {
+                resourceRepository.upsert(
+                        detail.getId(),
+                        detail.getName() != null ? detail.getName() : "GPU " + detail.getId(),
+                        (detail.getStatus() != null ? detail.getStatus() : ResourceStatus.AVAILABLE).name(),
+                        detail.getMemoryTotal() != null ? detail.getMemoryTotal() : 0,
+                        detail.getMemoryUsed() != null ? detail.getMemoryUsed() : 0,
+                        now);
+                persisted.put(detail.getId(), detail);
             }
-            return response;
-        } catch (RestClientException ex) {
-            throw new ApiException(ApiErrorCode.INTERNAL_SERVER_ERROR, "Failed to fetch GPU status");
         }
+
+        if (initial || !currentIds.equals(persisted.keySet())) {
+            if (currentIds.isEmpty()) {
+                resourceRepository.deleteAllInBatch();
+            } else {
+                resourceRepository.deleteByIdNotIn(currentIds);
+            }
+            persisted.keySet().retainAll(currentIds);
+        }
+    }
+
+    /**
+     * Identity, name, status and total memory must match; used memory only within the threshold
+     */
+    private boolean samePersistedState(ResourceDetail stored, ResourceDetail current) {
+        var storedUsed = stored.getMemoryUsed() != null ? stored.getMemoryUsed() : 0;
+        var currentUsed = current.getMemoryUsed() != null ? current.getMemoryUsed() : 0;
+        return Objects.equals(stored.getName(), current.getName())
+                && stored.getStatus() == current.getStatus()
+                && Objects.equals(stored.getMemoryTotal(), current.getMemoryTotal())
+                && Math.abs(currentUsed - storedUsed) < persistMemoryDeltaMb;
     }
 }
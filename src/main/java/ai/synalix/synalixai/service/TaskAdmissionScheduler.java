@@ -0,0 +1,285 @@
+package ai.synalix.synalixai.service;
+
+import ai.synalix.synalixai.dto.gpu.ResourceDetail;
+import ai.synalix.synalixai.entity.Task;
+import ai.synalix.synalixai.entity.User;
+import ai.synalix.synalixai.enums.ResourceStatus;
+import ai.synalix.synalixai.enums.UserRole;
+import ai.synalix.synalixai.repository.TaskRepository;
+import ai.synalix.synalixai.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Platform-side admission control for PENDING tasks.
+ * <p>
+ * Each cycle takes the queue of unadmitted tasks, a GPU status snapshot from {@link ResourceService}
+ * and the users' GPU permissions, then admits tasks in priority order. Among equal priorities the
+ * user with the lowest weighted share of active tasks goes first, so one user's sweep cannot starve
+ * everyone else. A task is admitted only if enough permitted GPUs have the required free memory.
+ * Memory of tasks admitted recently is kept reserved until the backend's own usage figures catch up.
+ * Reservations are derived from the tasks' admission times rather than held in memory, and cycles are
+ * serialized across instances with an advisory lock, so two instances never hand out the same memory.
+ */
+@Service
+public class TaskAdmissionScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskAdmissionScheduler.class);
+
+    private static final long ADVISORY_LOCK_KEY = 0x61646d6974L;
+
+    @Value("${app.task-admission.queue-scan-size}")
+    private int queueScanSize;
+
+    @Value("${app.task-admission.default-gpu-memory-mb}")
+    private int defaultGpuMemoryMb;
+
+    @Value("${app.task-admission.reservation-ms}")
+    private long reservationMs;
+
+    @Value("${app.task-admission.admin-weight}")
+    private double adminWeight;
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final GpuPermissionIndex gpuPermissionIndex;
+    private final ResourceService resourceService;
+    private final TaskService taskService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public TaskAdmissionScheduler(TaskRepository taskRepository,
+                                  UserRepository userRepository,
+                                  GpuPermissionIndex gpuPermissionIndex,
+                                  ResourceService resourceService,
+                                  TaskService taskService,
+                                  JdbcTemplate jdbcTemplate) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.gpuPermissionIndex = gpuPermissionIndex;
+        this.resourceService = resourceService;
+        this.taskService = taskService;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Run one admission cycle, unless another instance is running one
+     */
+    @Scheduled(fixedDelayString = "${app.task-admission.interval-ms}",
+            initialDelayString = "${app.task-admission.interval-ms}")
+    public void admit() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            // Session lock on one connection held for the whole cycle; admissions commit on their own
+            var session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            if (!Boolean.TRUE.equals(session.queryForObject(
+                    "SELECT pg_try_advisory_lock(?)", Boolean.class, ADVISORY_LOCK_KEY))) {
+                logger.debug("Skipping admission cycle, another instance is admitting");
+                return null;
+            }
+            try {
+                runCycle();
+            } finally {
+                session.queryForObject("SELECT pg_advisory_unlock(?)", Boolean.class, ADVISORY_LOCK_KEY);
+            }
+            return null;
+        });
+    }
+
+    private void runCycle() {
+        var queue = taskRepository.findAdmissionQueue(PageRequest.of(0, queueScanSize));
+        if (queue.isEmpty()) {
+            return;
+        }
+
+        List<ResourceDetail> gpus;
+        try {
+            var status = resourceService.getGpuStatus();
+            if (status.isStale()) {
+                // Placing work on a cached picture of GPU memory could oversubscribe devices
+                logger.debug("Skipping admission cycle, GPU status is stale");
+                return;
+            }
+            gpus = status.getGpuDetails();
+        } catch (Exception e) {
+            logger.warn("Skipping admission cycle, GPU status unavailable: {}", e.getMessage());
+            return;
+        }
+        if (gpus == null || gpus.isEmpty()) {
+            return;
+        }
+
+        var freeMemory = freeMemoryByGpu(gpus);
+        var userIds = queue.stream().map(Task::getCreatedBy).collect(Collectors.toSet());
+        var admins = userRepository.findAllById(userIds).stream()
+                .filter(user -> user.getRole() == UserRole.ADMIN)
+                .map(User::getId)
+                .collect(Collectors.toSet());
+        var permitted = permittedGpusByUser(userIds, admins, freeMemory.keySet());
+        var active = activeTasksByUser();
+
+        // Per-user FIFO queues; the repository already ordered tasks by priority then age
+        Map<UUID, ArrayDeque<Task>> byUser = new LinkedHashMap<>();
+        for (var task : queue) {
+            byUser.computeIfAbsent(task.getCreatedBy(), id -> new ArrayDeque<>()).add(task);
+        }
+
+        var admitted = 0;
+        while (!byUser.isEmpty()) {
+            var userId = nextUser(byUser, active, admins);
+            var task = byUser.get(userId).poll();
+            if (byUser.get(userId).isEmpty()) {
+                byUser.remove(userId);
+            }
+
+            var gpuIds = placeTask(task, permitted.getOrDefault(userId, Set.of()), freeMemory);
+            if (gpuIds == null) {
+                continue;
+            }
+            if (!taskService.admitTask(task.getId(), gpuIds)) {
+                continue;
+            }
+
+            var required = requiredMemory(task);
+            for (var gpuId : gpuIds) {
+                freeMemory.merge(gpuId.longValue(), -required, Long::sum);
+            }
+            active.merge(userId, 1L, Long::sum);
+            admitted++;
+            logger.info("Task admitted: id={}, user={}, priority={}, gpuIds={}",
+                    task.getId(), userId, task.getPriority(), gpuIds);
+        }
+
+        if (admitted > 0) {
+            logger.info("Admission cycle finished: queued={}, admitted={}", queue.size(), admitted);
+        }
+    }
+
+    /**
+     * Pick the user whose head task should go next: highest priority, then lowest weighted share, then oldest
+     */
+    private UUID nextUser(Map<UUID, ArrayDeque<Task>> byUser, Map<UUID, Long> active, Set<UUID> admins) {
+        Comparator<Map.Entry<UUID, ArrayDeque<Task>>> order = Comparator
+                .comparing((Map.Entry<UUID, ArrayDeque<Task>> e) -> e.getValue().peek().getPriority(),
+                        Comparator.reverseOrder())
+                .thenComparingDouble(e -> active.getOrDefault(e.getKey(), 0L)
+                        / (admins.contains(e.getKey()) ? adminWeight : 1.0))
+                .thenComparing(e -> e.getValue().peek().getCreatedAt());
+        return byUser.entrySet().stream().min(order).orElseThrow().getKey();
+    }
+
+    /**
+     * Choose GPUs for a task, or null if it does not fit right now
+     */
+    private List<Integer> placeTask(Task task, Set<Long> permitted, Map<Long, Long> freeMemory) {
+        var required = requiredMemory(task);
+        var pinned = requestedGpuIds(task);
+        if (!pinned.isEmpty()) {
+            for (var gpuId : pinned) {
+                if (!permitted.contains(gpuId.longValue()) || freeMemory.getOrDefault(gpuId.longValue(), 0L) < required) {
+                    return null;
+                }
+            }
+            return pinned;
+        }
+
+        var count = task.getGpuCount() != null ? task.getGpuCount() : 1;
+        var candidates = permitted.stream()
+                .filter(gpuId -> freeMemory.getOrDefault(gpuId, 0L) >= required)
+                // Best fit: the tightest GPUs that still fit keep large holes free for large jobs
+                .sorted(Comparator.comparingLong(freeMemory::get))
+                .limit(count)
+                .map(Long::intValue)
+                .toList();
+        return candidates.size() == count ? candidates : null;
+    }
+
+    private long requiredMemory(Task task) {
+        return task.getGpuMemoryMb() != null ? task.getGpuMemoryMb() : defaultGpuMemoryMb;
+    }
+
+    private static List<Integer> requestedGpuIds(Task task) {
+        if (task.getConfig() == null || !(task.getConfig().get("gpuIds") instanceof List<?> list)) {
+            return List.of();
+        }
+        var ids = new ArrayList<Integer>();
+        for (var item : list) {
+            if (item instanceof Number number) {
+                ids.add(number.intValue());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Free memory per usable GPU after subtracting unexpired reservations
+     */
+    private Map<Long, Long> freeMemoryByGpu(List<ResourceDetail> gpus) {
+        var reserved = reservedMemoryByGpu();
+        Map<Long, Long> free = new HashMap<>();
+        for (var gpu : gpus) {
+            if (gpu.getId() == null || gpu.getMemoryTotal() == null || gpu.getStatus() == ResourceStatus.OFFLINE) {
+                continue;
+            }
+            var used = gpu.getMemoryUsed() != null ? gpu.getMemoryUsed() : 0;
+            free.put(gpu.getId(), (long) gpu.getMemoryTotal() - used - reserved.getOrDefault(gpu.getId(), 0L));
+        }
+        return free;
+    }
+
+    /**
+     * Memory (MB) promised on each GPU to tasks admitted within the reservation window, by any instance
+     */
+    private Map<Long, Long> reservedMemoryByGpu() {
+        var since = LocalDateTime.now().minus(Duration.ofMillis(reservationMs));
+        Map<Long, Long> reserved = new HashMap<>();
+        for (var task : taskRepository.findByAdmittedAtAfterAndStatusIn(since, TaskStatusReconciler.ACTIVE_STATUSES)) {
+            var required = requiredMemory(task);
+            for (var gpuId : requestedGpuIds(task)) {
+                reserved.merge(gpuId.longValue(), required, Long::sum);
+            }
+        }
+        return reserved;
+    }
+
+    /**
+     * Permitted GPUs per user from the permission index; administrators may use every GPU
+     */
+    private Map<UUID, Set<Long>> permittedGpusByUser(Set<UUID> userIds, Set<UUID> admins, Set<Long> allGpuIds) {
+        Map<UUID, Set<Long>> permitted = new HashMap<>();
+        for (var userId : userIds) {
+            permitted.put(userId, admins.contains(userId) ? allGpuIds
+                    : new HashSet<>(gpuPermissionIndex.allowedGpuIds(userId)));
+        }
+        return permitted;
+    }
+
+    private Map<UUID, Long> activeTasksByUser() {
+        Map<UUID, Long> active = new HashMap<>();
+        for (var row : taskRepository.countActiveTasksByUser()) {
+            active.put((UUID) row[0], (Long) row[1]);
+        }
+        return active;
+    }
+}
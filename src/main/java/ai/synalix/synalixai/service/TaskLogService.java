@@ -0,0 +1,285 @@
+package ai.synalix.synalixai.service;
+
+import ai.synalix.synalixai.dto.task.TaskLogChunk;
+import ai.synalix.synalixai.dto.task.TaskLogRange;
+import ai.synalix.synalixai.enums.ApiErrorCode;
+import ai.synalix.synalixai.enums.TaskStatus;
+import ai.synalix.synalixai.exception.ApiException;
+import ai.synalix.synalixai.repository.TaskRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Task log retrieval backed by ranged MinIO reads.
+ * Every request works with a small fixed-size buffer regardless of the log size.
+ * Followers poll on their own small thread pool, capped in number, so slow object storage reads never
+ * hold up the shared scheduler that runs the background jobs.
+ */
+@Service
+public class TaskLogService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskLogService.class);
+
+    /**
+     * Chunk size used when scanning backwards for tail lines and when pushing follow-mode events
+     */
+    private static final int CHUNK_BYTES = 64 * 1024;
+
+    private static final Set<TaskStatus> TERMINAL_STATUSES =
+            Set.of(TaskStatus.COMPLETED, TaskStatus.FAILED, TaskStatus.STOPPED);
+
+    @Value("${app.task-logs.follow-interval-ms}")
+    private long followIntervalMs;
+
+    @Value("${app.task-logs.follow-timeout-ms}")
+    private long followTimeoutMs;
+
+    @Value("${app.task-logs.max-followers}")
+    private int maxFollowers;
+
+    private final MinioService minioService;
+    private final TaskRepository taskRepository;
+    private final ThreadPoolTaskScheduler followScheduler;
+    private final AtomicInteger followers = new AtomicInteger();
+
+    @Autowired
+    public TaskLogService(MinioService minioService, TaskRepository taskRepository,
+                          @Value("${app.task-logs.follow-threads}") int followThreads) {
+        this.minioService = minioService;
+        this.taskRepository = taskRepository;
+        // Deliberately not a bean: a TaskScheduler bean would replace the scheduler used by @Scheduled jobs
+        this.followScheduler = new ThreadPoolTaskScheduler();
+        this.followScheduler.setPoolSize(followThreads);
+        this.followScheduler.setThreadNamePrefix("Log-follow-");
+        this.followScheduler.setDaemon(true);
+        this.followScheduler.initialize();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        followScheduler.shutdown();
+    }
+
+    /**
+     * Resolve the byte range to return for a log request.
+     * When tail is given it wins over offset/length and selects the last N lines.
+     */
+    public TaskLogRange resolveRange(UUID taskId, Long offset, Long length, Integer tail) {
+        requireTask(taskId);
+        if ((offset != null && offset < 0) || (length != null && length < 0) || (tail != null && tail < 0)) {
+            throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "offset, length and tail must not be negative");
+        }
+
+        var size = minioService.getTaskLogSize(taskId);
+        if (size < 0) {
+            return new TaskLogRange(0, 0, -1);
+        }
+        if (tail != null) {
+            return new TaskLogRange(findTailStart(taskId, size, tail), size, size);
+        }
+        var start = Math.min(offset == null ? 0 : offset, size);
+        var end = length == null ? size : Math.min(size, start + length);
+        return new TaskLogRange(start, end, size);
+    }
+
+    /**
+     * Stream a resolved range straight from object storage to the response
+     */
+    public StreamingResponseBody streamRange(UUID taskId, TaskLogRange range) {
+        return outputStream -> {
+            if (range.getLength() <= 0) {
+                return;
+            }
+            try (var in = minioService.openTaskLogRange(taskId, range.getStart(), range.getLength())) {
+                in.transferTo(outputStream);
+            }
+        };
+    }
+
+    /**
+     * Push log bytes appended after the given offset as server-sent events until the task
+     * finishes and the log stops growing, the client disconnects, or the timeout elapses.
+     */
+    public SseEmitter follow(UUID taskId, Long offset) {
+        requireTask(taskId);
+        if (followers.incrementAndGet() > maxFollowers) {
+            followers.decrementAndGet();
+            throw new ApiException(ApiErrorCode.TASK_LOG_FOLLOW_LIMIT_REACHED);
+        }
+        var emitter = new SseEmitter(followTimeoutMs);
+        var position = new long[]{offset == null ? 0 : Math.max(offset, 0)};
+        var future = new AtomicReference<ScheduledFuture<?>>();
+        var released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                followers.decrementAndGet();
+            }
+        };
+
+        Runnable poll = () -> {
+            try {
+                if (!pushNewBytes(taskId, position, emitter)) {
+                    emitter.complete();
+                    cancel(future);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away
+                cancel(future);
+            } catch (Exception e) {
+                logger.warn("Log follow for task {} failed: {}", taskId, e.getMessage());
+                emitter.completeWithError(e);
+                cancel(future);
+            }
+        };
+
+        emitter.onCompletion(() -> {
+            cancel(future);
+            release.run();
+        });
+        emitter.onTimeout(() -> cancel(future));
+        emitter.onError(e -> cancel(future));
+        try {
+            future.set(followScheduler.scheduleWithFixedDelay(poll, Duration.ofMillis(followIntervalMs)));
+        } catch (RuntimeException e) {
+            release.run();
+            throw e;
+        }
+        return emitter;
+    }
+
+    /**
+     * Send everything between position and the current object size in bounded chunks.
+     *
+     * @return false once the task is terminal and no more bytes are expected
+     */
+    private boolean pushNewBytes(UUID taskId, long[] position, SseEmitter emitter) throws IOException {
+        // Read status before size so bytes written just before the task finished are not missed
+        var terminal = taskRepository.findById(taskId)
+                .map(task -> TERMINAL_STATUSES.contains(task.getStatus()))
+                .orElse(true);
+        var size = minioService.getTaskLogSize(taskId);
+
+        var buffer = new byte[CHUNK_BYTES];
+        while (size > position[0]) {
+            var toRead = (int) Math.min(CHUNK_BYTES, size - position[0]);
+            int read;
+            try (var in = minioService.openTaskLogRange(taskId, position[0], toRead)) {
+                read = in.readNBytes(buffer, 0, toRead);
+            }
+            if (read <= 0) {
+                break;
+            }
+            // Cut at the last newline so lines are not split across events; a chunk without one is cut
+            // before any incomplete UTF-8 sequence, whose bytes are read again with the next chunk
+            var cut = lastNewline(buffer, read);
+            var emit = cut >= 0 ? cut + 1 : completeUtf8Length(buffer, read);
+            if (cut < 0 && read < CHUNK_BYTES && !terminal) {
+                // Partial line at the end of a growing log: wait for the rest
+                break;
+            }
+            if (emit == 0) {
+                if (!terminal) {
+                    break;
+                }
+                // A finished log ending in a truncated character: send what is there
+                emit = read;
+            }
+            var text = new String(buffer, 0, emit, StandardCharsets.UTF_8);
+            var chunk = new TaskLogChunk(position[0], position[0] + emit, text);
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(chunk.getNextOffset()))
+                    .name("log")
+                    .data(chunk, MediaType.APPLICATION_JSON));
+            position[0] += emit;
+        }
+        return !terminal || size > position[0];
+    }
+
+    /**
+     * Find the byte offset where the last N lines start by scanning backwards in fixed-size chunks
+     */
+    private long findTailStart(UUID taskId, long size, int lines) {
+        if (lines == 0 || size == 0) {
+            return size;
+        }
+        var buffer = new byte[CHUNK_BYTES];
+        var remaining = lines;
+        var end = size;
+        var first = true;
+        while (end > 0) {
+            var start = Math.max(0, end - CHUNK_BYTES);
+            var length = (int) (end - start);
+            try (var in = minioService.openTaskLogRange(taskId, start, length)) {
+                var read = in.readNBytes(buffer, 0, length);
+                // A trailing newline terminates the last line rather than starting a new one
+                var i = first && read > 0 && buffer[read - 1] == '\n' ? read - 2 : read - 1;
+                first = false;
+                for (; i >= 0; i--) {
+                    if (buffer[i] == '\n' && --remaining == 0) {
+                        return start + i + 1;
+                    }
+                }
+            } catch (IOException e) {
+                throw new ApiException(ApiErrorCode.STORAGE_ERROR, "Failed to read task logs: " + e.getMessage());
+            }
+            end = start;
+        }
+        return 0;
+    }
+
+    private static int lastNewline(byte[] buffer, int length) {
+        for (var i = length - 1; i >= 0; i--) {
+            if (buffer[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Length of the longest prefix that does not end inside a multi-byte UTF-8 sequence
+     */
+    static int completeUtf8Length(byte[] buffer, int length) {
+        // A UTF-8 sequence is at most 4 bytes, so its lead byte is among the last 4
+        for (var i = length - 1; i >= Math.max(0, length - 4); i--) {
+            var b = buffer[i] & 0xFF;
+            if ((b & 0xC0) == 0x80) {
+                continue;
+            }
+            var sequenceLength = b < 0x80 ? 1 : b >= 0xF0 ? 4 : b >= 0xE0 ? 3 : 2;
+            return i + sequenceLength > length ? i : length;
+        }
+        return length;
+    }
+
+    private static void cancel(AtomicReference<ScheduledFuture<?>> future) {
+        var scheduled = future.get();
+        if (scheduled != null) {
+            scheduled.cancel(false);
+        }
+    }
+
+    private void requireTask(UUID taskId) {
+        if (!taskRepository.existsById(taskId)) {
+            throw new ApiException(ApiErrorCode.TASK_NOT_FOUND);
+        }
+    }
+}
@@ -0,0 +1,494 @@
+package ai.synalix.synalixai.service;
+
+import ai.synalix.synalixai.dto.task.TaskMetricMessage;
+import ai.synalix.synalixai.dto.task.TaskMetricSeriesResponse;
+import ai.synalix.synalixai.dto.task.TaskMetricsResponse;
+import ai.synalix.synalixai.entity.TaskMetricChunk;
+import ai.synalix.synalixai.enums.ApiErrorCode;
+import ai.synalix.synalixai.exception.ApiException;
+import ai.synalix.synalixai.repository.TaskMetricChunkRepository;
+import ai.synalix.synalixai.repository.TaskRepository;
+import ai.synalix.synalixai.util.Lttb;
+import ai.synalix.synalixai.util.TimeSeriesCodec;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Columnar time-series store for per-step training metrics.
+ * <p>
+ * Each (task, metric) series keeps an open head of primitive arrays in memory. When the head is full,
+ * or has been idle for the flush interval, it is sealed into a Gorilla-encoded chunk and persisted; an
+ * idle head is then dropped, so only series still receiving points are held in memory.
+ * Queries decode only the chunks overlapping the requested time range and downsample with LTTB.
+ * Chunks that fail to persist are kept and retried on the next flush cycle, and every head is
+ * flushed on shutdown, so only points still unsealed at a crash are lost.
+ */
+@Service
+public class TaskMetricsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskMetricsService.class);
+
+    public static final String METRIC_LOSS = "loss";
+    public static final String METRIC_ACCURACY = "accuracy";
+    public static final String METRIC_EPOCH = "epoch";
+    public static final String METRIC_LEARNING_RATE = "lr";
+    public static final String METRIC_TOKENS_PER_SECOND = "tokens_per_second";
+
+    private static final int DEFAULT_POINTS = 500;
+    private static final int MAX_POINTS = 5000;
+    private static final int MAX_METRIC_NAME_LENGTH = 64;
+
+    private static final LocalDateTime MIN_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    @Value("${app.task-metrics.chunk-points}")
+    private int chunkPoints;
+
+    @Value("${app.task-metrics.flush-interval-ms}")
+    private long flushIntervalMs;
+
+    @Value("${app.task-metrics.max-pending-chunks}")
+    private int maxPendingChunks;
+
+    private final TaskMetricChunkRepository chunkRepository;
+    private final TaskRepository taskRepository;
+
+    /**
+     * Open series heads by (task, metric)
+     */
+    private final Map<SeriesKey, SeriesHead> heads = new ConcurrentHashMap<>();
+
+    /**
+     * Backend task id to local task id, for tasks with an open head
+     */
+    private final Map<String, UUID> taskIdsByExternalId = new ConcurrentHashMap<>();
+
+    /**
+     * Sealed chunks whose save failed, oldest first, waiting for the next flush cycle
+     */
+    private final Deque<TaskMetricChunk> pendingChunks = new ConcurrentLinkedDeque<>();
+
+    @Autowired
+    public TaskMetricsService(TaskMetricChunkRepository chunkRepository, TaskRepository taskRepository) {
+        this.chunkRepository = chunkRepository;
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * Append one step of metrics pushed by the training backend
+     */
+    public void ingest(TaskMetricMessage message) {
+        if (message.getExternalTaskId() == null || message.getStep() == null || message.getMetrics() == null) {
+            logger.warn("Dropping incomplete metric message: {}", message);
+            return;
+        }
+        var taskId = resolveTaskId(message.getExternalTaskId());
+        if (taskId == null) {
+            logger.warn("Dropping metrics for unknown backend task {}", message.getExternalTaskId());
+            return;
+        }
+
+        var timestamp = message.getTimestamp() != null ? message.getTimestamp() : System.currentTimeMillis();
+        for (var entry : message.getMetrics().entrySet()) {
+            if (entry.getValue() == null || entry.getKey().length() > MAX_METRIC_NAME_LENGTH) {
+                continue;
+            }
+            var key = new SeriesKey(taskId, entry.getKey());
+            TimeSeriesCodec.Columns sealed;
+            do {
+                // A head retired by the flush job is being removed from the map; append to its successor
+                var head = heads.computeIfAbsent(key, k -> new SeriesHead(chunkPoints));
+                sealed = head.append(message.getStep(), timestamp, entry.getValue());
+            } while (sealed == SeriesHead.RETIRED);
+            if (sealed != null) {
+                persist(key, sealed);
+            }
+        }
+    }
+
+    /**
+     * Retry chunks that failed to persist, then seal heads that have not received points for a full flush interval
+     */
+    @Scheduled(fixedDelayString = "${app.task-metrics.flush-interval-ms}",
+            initialDelayString = "${app.task-metrics.flush-interval-ms}")
+    public void flushIdleHeads() {
+        retryPendingChunks();
+        flushHeads(System.currentTimeMillis() - flushIntervalMs);
+    }
+
+    /**
+     * Seal and persist every head, idle or not, so a clean shutdown keeps all ingested points
+     */
+    @PreDestroy
+    void flushAll() {
+        retryPendingChunks();
+        flushHeads(Long.MAX_VALUE);
+        if (!pendingChunks.isEmpty()) {
+            logger.error("Metric chunks lost on shutdown: chunks={}", pendingChunks.size());
+        }
+    }
+
+    /**
+     * Seal idle heads and drop them from memory, together with the backend id mappings of tasks that no
+     * longer have an open head; a task that reports again is resolved from the database
+     */
+    private void flushHeads(long idleBefore) {
+        var activeTaskIds = new HashSet<UUID>();
+        for (var entry : heads.entrySet()) {
+            var head = entry.getValue();
+            var sealed = head.sealIfIdle(idleBefore);
+            if (head.isRetired()) {
+                heads.remove(entry.getKey(), head);
+            } else {
+                activeTaskIds.add(entry.getKey().taskId());
+            }
+            if (sealed != null) {
+                persist(entry.getKey(), sealed);
+            }
+        }
+        taskIdsByExternalId.values().retainAll(activeTaskIds);
+    }
+
+    /**
+     * Save pending chunks oldest first, stopping at the first failure since the store is likely still down
+     */
+    private void retryPendingChunks() {
+        TaskMetricChunk chunk;
+        while ((chunk = pendingChunks.peekFirst()) != null) {
+            try {
+                // A failed insert may have left a generated id behind; save as new again
+                chunk.setId(null);
+                chunkRepository.save(chunk);
+            } catch (Exception e) {
+                logger.warn("Metric chunk retry failed: pending={}, error={}", pendingChunks.size(), e.getMessage());
+                return;
+            }
+            pendingChunks.remove(chunk);
+        }
+    }
+
+    /**
+     * Query a series within an optional time range, downsampled to at most the requested number of points
+     */
+    public TaskMetricSeriesResponse getSeries(UUID taskId, String metric, LocalDateTime from, LocalDateTime to,
+                                              Integer points) {
+        if (metric == null || metric.isBlank()) {
+            throw new ApiException(ApiErrorCode.MISSING_REQUIRED_FIELD, "metric is required");
+        }
+        if (!taskRepository.existsById(taskId)) {
+            throw new ApiException(ApiErrorCode.TASK_NOT_FOUND);
+        }
+        var rangeFrom = from != null ? from : MIN_TIME;
+        var rangeTo = to != null ? to : MAX_TIME;
+        var fromMillis = toEpochMillis(rangeFrom);
+        var toMillis = toEpochMillis(rangeTo);
+        var threshold = points == null ? DEFAULT_POINTS : Math.min(Math.max(points, 3), MAX_POINTS);
+
+        var collector = new PointCollector();
+        for (var chunk : chunkRepository.findOverlapping(taskId, metric, rangeFrom, rangeTo)) {
+            collector.addAll(TimeSeriesCodec.decode(chunk.getData()), fromMillis, toMillis);
+        }
+        for (var chunk : pendingChunks) {
+            if (chunk.getTaskId().equals(taskId) && chunk.getMetric().equals(metric)) {
+                collector.addAll(TimeSeriesCodec.decode(chunk.getData()), fromMillis, toMillis);
+            }
+        }
+        var head = heads.get(new SeriesKey(taskId, metric));
+        if (head != null) {
+            collector.addAll(head.snapshot(), fromMillis, toMillis);
+        }
+        collector.sortByStep();
+
+        var selected = Lttb.downsample(collector.steps, collector.values, collector.size, threshold);
+        var steps = new long[selected.length];
+        var timestamps = new long[selected.length];
+        var values = new double[selected.length];
+        for (var i = 0; i < selected.length; i++) {
+            steps[i] = collector.steps[selected[i]];
+            timestamps[i] = collector.timestamps[selected[i]];
+            values[i] = collector.values[selected[i]];
+        }
+        return new TaskMetricSeriesResponse(taskId, metric, collector.size, steps, timestamps, values);
+    }
+
+    /**
+     * Latest values of the well-known metrics for a task
+     */
+    public TaskMetricsResponse getLatestMetrics(UUID taskId) {
+        var response = new TaskMetricsResponse();
+        response.setTaskId(taskId);
+
+        var loss = latestPoint(taskId, METRIC_LOSS);
+        var accuracy = latestPoint(taskId, METRIC_ACCURACY);
+        var epoch = latestPoint(taskId, METRIC_EPOCH);
+        var learningRate = latestPoint(taskId, METRIC_LEARNING_RATE);
+        var tokensPerSecond = latestPoint(taskId, METRIC_TOKENS_PER_SECOND);
+
+        response.setLoss(loss != null ? loss.value() : null);
+        response.setAccuracy(accuracy != null ? accuracy.value() : null);
+        response.setEpoch(epoch != null ? (int) epoch.value() : null);
+        response.setLearningRate(learningRate != null ? learningRate.value() : null);
+        response.setTokensPerSecond(tokensPerSecond != null ? tokensPerSecond.value() : null);
+
+        // Report the newest step and time seen across the well-known metrics
+        var newest = Stream.of(loss, accuracy, epoch, learningRate, tokensPerSecond)
+                .filter(Objects::nonNull)
+                .max(Comparator.comparingLong(Point::step))
+                .orElse(null);
+        if (newest != null) {
+            response.setStep(newest.step());
+            response.setTimestamp(toLocalDateTime(newest.timestamp()));
+        }
+        return response;
+    }
+
+    private Point latestPoint(UUID taskId, String metric) {
+        var head = heads.get(new SeriesKey(taskId, metric));
+        if (head != null) {
+            var last = head.last();
+            if (last != null) {
+                return last;
+            }
+        }
+        // A retired head's last chunk may still be waiting to be saved
+        var pending = pendingChunks.descendingIterator();
+        while (pending.hasNext()) {
+            var chunk = pending.next();
+            if (chunk.getTaskId().equals(taskId) && chunk.getMetric().equals(metric)) {
+                return lastPoint(chunk);
+            }
+        }
+        return chunkRepository.findFirstByTaskIdAndMetricOrderByEndTimeDesc(taskId, metric)
+                .map(TaskMetricsService::lastPoint)
+                .orElse(null);
+    }
+
+    private static Point lastPoint(TaskMetricChunk chunk) {
+        var columns = TimeSeriesCodec.decode(chunk.getData());
+        var i = columns.size() - 1;
+        return new Point(columns.steps()[i], columns.timestamps()[i], columns.values()[i]);
+    }
+
+    private UUID resolveTaskId(String externalTaskId) {
+        var cached = taskIdsByExternalId.get(externalTaskId);
+        if (cached != null) {
+            return cached;
+        }
+        var task = taskRepository.findByExternalTaskId(externalTaskId).orElse(null);
+        if (task == null) {
+            return null;
+        }
+        taskIdsByExternalId.put(externalTaskId, task.getId());
+        return task.getId();
+    }
+
+    private void persist(SeriesKey key, TimeSeriesCodec.Columns columns) {
+        var count = columns.size();
+        var chunk = new TaskMetricChunk();
+        chunk.setTaskId(key.taskId());
+        chunk.setMetric(key.metric());
+        chunk.setStartStep(Arrays.stream(columns.steps()).min().orElse(0));
+        chunk.setEndStep(Arrays.stream(columns.steps()).max().orElse(0));
+        chunk.setStartTime(toLocalDateTime(Arrays.stream(columns.timestamps()).min().orElse(0)));
+        chunk.setEndTime(toLocalDateTime(Arrays.stream(columns.timestamps()).max().orElse(0)));
+        chunk.setPointCount(count);
+        chunk.setData(TimeSeriesCodec.encode(columns.steps(), columns.timestamps(), columns.values(), count));
+        // Keep chunk order per series: while older chunks are pending, queue behind them
+        if (pendingChunks.isEmpty()) {
+            try {
+                chunkRepository.save(chunk);
+                logger.debug("Metric chunk sealed: task={}, metric={}, points={}, bytes={}",
+                        key.taskId(), key.metric(), count, chunk.getData().length);
+                return;
+            } catch (Exception e) {
+                logger.warn("Failed to persist metric chunk, will retry: task={}, metric={}, points={}, error={}",
+                        key.taskId(), key.metric(), count, e.getMessage());
+            }
+        }
+        pendingChunks.addLast(chunk);
+        while (pendingChunks.size() > maxPendingChunks) {
+            var dropped = pendingChunks.pollFirst();
+            if (dropped != null) {
+                logger.error("Dropping metric chunk, retry backlog full: task={}, metric={}, points={}",
+                        dropped.getTaskId(), dropped.getMetric(), dropped.getPointCount());
+            }
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private record SeriesKey(UUID taskId, String metric) {
+    }
+
+    private record Point(long step, long timestamp, double value) {
+    }
+
+    /**
+     * Open, mutable tail of a series backed by primitive arrays.
+     * An idle head is sealed and retired, and the flush job removes it, so finished runs keep nothing in memory.
+     */
+    private static final class SeriesHead {
+
+        /**
+         * Returned by {@link #append} on a retired head; the caller appends to a fresh head instead
+         */
+        static final TimeSeriesCodec.Columns RETIRED =
+                new TimeSeriesCodec.Columns(new long[0], new long[0], new double[0]);
+
+        private final int capacity;
+        private long[] steps;
+        private long[] timestamps;
+        private double[] values;
+        private int size;
+        private long lastAppendMillis;
+        private Point last;
+        private boolean retired;
+
+        SeriesHead(int capacity) {
+            this.capacity = capacity;
+        }
+
+        /**
+         * Append a point, returning the sealed columns when the head became full, or {@link #RETIRED}
+         */
+        synchronized TimeSeriesCodec.Columns append(long step, long timestamp, double value) {
+            if (retired) {
+                return RETIRED;
+            }
+            if (steps == null) {
+                steps = new long[capacity];
+                timestamps = new long[capacity];
+                values = new double[capacity];
+            }
+            steps[size] = step;
+            timestamps[size] = timestamp;
+            values[size] = value;
+            size++;
+            lastAppendMillis = System.currentTimeMillis();
+            if (last == null || step >= last.step()) {
+                last = new Point(step, timestamp, value);
+            }
+            return size == capacity ? seal() : null;
+        }
+
+        /**
+         * Retire the head if it has been idle since {@code idleBefore}, returning its unsealed points if any
+         */
+        synchronized TimeSeriesCodec.Columns sealIfIdle(long idleBefore) {
+            if (lastAppendMillis >= idleBefore) {
+                return null;
+            }
+            retired = true;
+            var sealed = size > 0 ? seal() : null;
+            steps = null;
+            timestamps = null;
+            values = null;
+            return sealed;
+        }
+
+        synchronized boolean isRetired() {
+            return retired;
+        }
+
+        synchronized TimeSeriesCodec.Columns snapshot() {
+            if (size == 0) {
+                return new TimeSeriesCodec.Columns(new long[0], new long[0], new double[0]);
+            }
+            return new TimeSeriesCodec.Columns(
+                    Arrays.copyOf(steps, size), Arrays.copyOf(timestamps, size), Arrays.copyOf(values, size));
+        }
+
+        synchronized Point last() {
+            return last;
+        }
+
+        private TimeSeriesCodec.Columns seal() {
+            var sealed = snapshot();
+            size = 0;
+            return sealed;
+        }
+    }
+
+    /**
+     * Growable primitive columns used while assembling a query result
+     */
+    private static final class PointCollector {
+
+        private long[] steps = new long[1024];
+        private long[] timestamps = new long[1024];
+        private double[] values = new double[1024];
+        private int size;
+
+        void addAll(TimeSeriesCodec.Columns columns, long fromMillis, long toMillis) {
+            for (var i = 0; i < columns.size(); i++) {
+                var timestamp = columns.timestamps()[i];
+                if (timestamp < fromMillis || timestamp > toMillis) {
+                    continue;
+                }
+                if (size == steps.length) {
+                    steps = Arrays.copyOf(steps, size * 2);
+                    timestamps = Arrays.copyOf(timestamps, size * 2);
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                steps[size] = columns.steps()[i];
+                timestamps[size] = timestamp;
+                values[size] = columns.values()[i];
+                size++;
+            }
+        }
+
+        /**
+         * Concurrent consumers may deliver steps slightly out of order; reorder only when needed
+         */
+        void sortByStep() {
+            var sorted = true;
+            for (var i = 1; i < size && sorted; i++) {
+                sorted = steps[i - 1] <= steps[i];
+            }
+            if (sorted) {
+                return;
+            }
+            var order = IntStream.range(0, size).boxed()
+                    .sorted(Comparator.comparingLong(i -> steps[i]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            var sortedSteps = new long[size];
+            var sortedTimestamps = new long[size];
+            var sortedValues = new double[size];
+            for (var i = 0; i < size; i++) {
+                sortedSteps[i] = steps[order[i]];
+                sortedTimestamps[i] = timestamps[order[i]];
+                sortedValues[i] = values[order[i]];
+            }
+            steps = sortedSteps;
+            timestamps = sortedTimestamps;
+            values = sortedValues;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package ai.synalix.synalixai.service;
+
+import ai.synalix.synalixai.repository.TaskOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Periodically purges task outbox entries that were delivered or failed permanently.
+ * Rows are deleted in bounded chunks, each in its own short transaction, so the job never holds
+ * locks on a large part of the table while the dispatcher is claiming entries.
+ */
+@Service
+public class TaskOutboxCleanupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskOutboxCleanupService.class);
+
+    private final TaskOutboxRepository outboxRepository;
+
+    private final Counter purged;
+    private final Timer purgeTimer;
+
+    @Value("${app.task-outbox-cleanup.batch-size}")
+    private int batchSize;
+
+    @Value("${app.task-outbox-cleanup.retention-hours}")
+    private long retentionHours;
+
+    @Autowired
+    public TaskOutboxCleanupService(TaskOutboxRepository outboxRepository, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.purged = Counter.builder("task_outbox.purged")
+                .description("Finished task outbox entries deleted by the cleanup job")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("task_outbox.purge")
+                .description("Duration of a task outbox cleanup run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Delete delivered and failed entries older than the retention period
+     */
+    @Scheduled(fixedDelayString = "${app.task-outbox-cleanup.interval-ms}",
+            initialDelayString = "${app.task-outbox-cleanup.interval-ms}")
+    public void purge() {
+        purgeTimer.record(() -> {
+            var cutoff = LocalDateTime.now().minusHours(retentionHours);
+            var total = 0;
+            int deleted;
+            do {
+                deleted = outboxRepository.deleteFinishedBefore(cutoff, batchSize);
+                total += deleted;
+            } while (deleted == batchSize);
+            purged.increment(total);
+            if (total > 0) {
+                logger.info("Task outbox entries purged: count={}", total);
+            }
+        });
+    }
+}
@@ -0,0 +1,265 @@
+package ai.synalix.synalixai.service;
+
+import ai.synalix.synalixai.dto.task.TrainResponse;
+import ai.synalix.synalixai.entity.TaskOutbox;
+import ai.synalix.synalixai.enums.AuditOperationType;
+import ai.synalix.synalixai.enums.OutboxOperation;
+import ai.synalix.synalixai.enums.OutboxStatus;
+import ai.synalix.synalixai.enums.TaskStatus;
+import ai.synalix.synalixai.enums.TaskType;
+import ai.synalix.synalixai.repository.TaskOutboxRepository;
+import ai.synalix.synalixai.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Delivers task outbox entries to the training backend.
+ * <p>
+ * Entries are written by {@link TaskService} in the same transaction as the task change. This dispatcher
+ * claims due entries in batches and performs the HTTP calls outside any transaction, so a slow backend
+ * never holds a database connection. Failed calls are retried with exponential backoff and jitter.
+ * <p>
+ * Delivery is at-least-once: a submit whose response was lost, or whose lease expired mid-call, is sent
+ * again. Each submit therefore carries the outbox entry id as its Idempotency-Key, which stays the same
+ * across retries, so a backend honouring the header starts the task only once. Against a backend that
+ * ignores it, a retried submit can start a duplicate run.
+ */
+@Service
+public class TaskOutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskOutboxDispatcher.class);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    @Value("${app.backend-base-url}")
+    private String backendBaseUrl;
+
+    @Value("${app.task-outbox.batch-size}")
+    private int batchSize;
+
+    @Value("${app.task-outbox.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${app.task-outbox.base-backoff-ms}")
+    private long baseBackoffMs;
+
+    @Value("${app.task-outbox.max-backoff-ms}")
+    private long maxBackoffMs;
+
+    @Value("${app.task-outbox.lease-ms}")
+    private long leaseMs;
+
+    private final TaskOutboxRepository outboxRepository;
+    private final TaskRepository taskRepository;
+    private final RestTemplate restTemplate;
+    private final AuditService auditService;
+    private final EventHubService eventHubService;
+    private final Executor outboxExecutor;
+
+    @Autowired
+    public TaskOutboxDispatcher(TaskOutboxRepository outboxRepository,
+                                TaskRepository taskRepository,
+                                @Qualifier("backendTaskRestTemplate") RestTemplate restTemplate,
+                                AuditService auditService,
+                                EventHubService eventHubService,
+                                @Qualifier("taskOutboxExecutor") Executor outboxExecutor) {
+        this.outboxRepository = outboxRepository;
+        this.taskRepository = taskRepository;
+        this.restTemplate = restTemplate;
+        this.auditService = auditService;
+        this.eventHubService = eventHubService;
+        this.outboxExecutor = outboxExecutor;
+    }
+
+    /**
+     * Record a backend call for the task; joins the caller's transaction
+     */
+    public TaskOutbox enqueue(UUID taskId, OutboxOperation operation) {
+        var entry = new TaskOutbox();
+        entry.setTaskId(taskId);
+        entry.setOperation(operation);
+        entry.setStatus(OutboxStatus.PENDING);
+        entry.setAttempts(0);
+        entry.setNextAttemptAt(LocalDateTime.now());
+        return outboxRepository.save(entry);
+    }
+
+    /**
+     * Record the same backend call for several tasks in one batched insert; joins the caller's transaction
+     */
+    public List<TaskOutbox> enqueueAll(Collection<UUID> taskIds, OutboxOperation operation) {
+        var now = LocalDateTime.now();
+        var entries = taskIds.stream().map(taskId -> {
+            var entry = new TaskOutbox();
+            entry.setTaskId(taskId);
+            entry.setOperation(operation);
+            entry.setStatus(OutboxStatus.PENDING);
+            entry.setAttempts(0);
+            entry.setNextAttemptAt(now);
+            return entry;
+        }).toList();
+        return outboxRepository.saveAll(entries);
+    }
+
+    /**
+     * Claim and deliver due entries until no full batch remains. Entries of a batch are delivered
+     * concurrently on the outbox executor, whose pool size bounds the calls in flight to the backend.
+     */
+    @Scheduled(fixedDelayString = "${app.task-outbox.poll-interval-ms}")
+    public void dispatch() {
+        int claimed;
+        do {
+            var token = UUID.randomUUID();
+            var now = LocalDateTime.now();
+            claimed = outboxRepository.claimBatch(token, now, now.plusNanos(leaseMs * 1_000_000L), batchSize);
+            if (claimed == 0) {
+                return;
+            }
+            var entries = outboxRepository.findByClaimTokenOrderByCreatedAtAsc(token);
+            var deliveries = entries.stream()
+                    .map(entry -> CompletableFuture.runAsync(() -> deliver(entry), outboxExecutor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(deliveries).join();
+            logger.debug("Task outbox batch dispatched: size={}", entries.size());
+        } while (claimed == batchSize);
+    }
+
+    /**
+     * Deliver one claimed entry and record the outcome
+     */
+    void deliver(TaskOutbox entry) {
+        try {
+            switch (entry.getOperation()) {
+                case SUBMIT -> deliverSubmit(entry);
+                case CANCEL -> deliverCancel(entry);
+            }
+            entry.setStatus(OutboxStatus.DELIVERED);
+            entry.setAttempts(entry.getAttempts() + 1);
+            entry.setClaimToken(null);
+            outboxRepository.save(entry);
+        } catch (Exception e) {
+            recordFailure(entry, e);
+        }
+    }
+
+    private void deliverSubmit(TaskOutbox entry) {
+        var task = taskRepository.findById(entry.getTaskId()).orElse(null);
+        if (task == null || task.getExternalTaskId() != null || task.getStatus() != TaskStatus.PENDING) {
+            // Deleted, already submitted, or stopped before submission: nothing to send
+            return;
+        }
+
+        var taskType = task.getType() == TaskType.TRAINING ? "train" : "infer";
+        var url = backendBaseUrl.endsWith("/") ? backendBaseUrl + "api/" + taskType
+                : backendBaseUrl + "/api/" + taskType;
+        var headers = new HttpHeaders();
+        headers.set(IDEMPOTENCY_KEY_HEADER, entry.getId().toString());
+        var resp = restTemplate.postForObject(url, new HttpEntity<>(task.getConfig(), headers), TrainResponse.class);
+        if (resp == null || resp.getRequest() == null || resp.getRequest().getTaskId() == null) {
+            throw new IllegalStateException("Invalid train response");
+        }
+
+        var externalTaskId = resp.getRequest().getTaskId();
+        var now = LocalDateTime.now();
+        taskRepository.updateExternalTaskId(task.getId(), externalTaskId, now);
+        var promoted = taskRepository.updateStatusByIds(
+                TaskStatus.RUNNING, List.of(task.getId()), List.of(TaskStatus.PENDING), now);
+        if (promoted == 0) {
+            // Stopped while the submit was in flight: cancel what we just started
+            enqueue(task.getId(), OutboxOperation.CANCEL);
+        }
+
+        task.setExternalTaskId(externalTaskId);
+        task.setStatus(promoted == 0 ? task.getStatus() : TaskStatus.RUNNING);
+        task.setUpdatedAt(now);
+        auditService.logAsync(
+                AuditOperationType.TASK_CREATE,
+                task.getCreatedBy(),
+                task.getId().toString(),
+                Map.of("externalTaskId", externalTaskId, "status", task.getStatus().name()));
+        eventHubService.publishTaskEvent(task);
+        logger.info("Task submitted to backend: id={}, externalTaskId={}", task.getId(), externalTaskId);
+    }
+
+    private void deliverCancel(TaskOutbox entry) {
+        var task = taskRepository.findById(entry.getTaskId()).orElse(null);
+        if (task == null || task.getExternalTaskId() == null || task.getExternalTaskId().isBlank()) {
+            // Never reached the backend; a late submit will enqueue its own cancel
+            return;
+        }
+        var base = backendBaseUrl.endsWith("/") ? backendBaseUrl + "api/tasks/cancel"
+                : backendBaseUrl + "/api/tasks/cancel";
+        var url = UriComponentsBuilder.fromUriString(base)
+                .queryParam("task_id", task.getExternalTaskId())
+                .toUriString();
+        var resp = restTemplate.exchange(url, HttpMethod.POST, null, Void.class);
+        if (!resp.getStatusCode().is2xxSuccessful()) {
+            throw new IllegalStateException("Backend cancel returned " + resp.getStatusCode());
+        }
+        logger.info("Task cancelled on backend: id={}, externalTaskId={}", task.getId(), task.getExternalTaskId());
+    }
+
+    private void recordFailure(TaskOutbox entry, Exception e) {
+        var attempts = entry.getAttempts() + 1;
+        var message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        entry.setAttempts(attempts);
+        entry.setLastError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+        entry.setClaimToken(null);
+
+        if (attempts >= maxAttempts) {
+            entry.setStatus(OutboxStatus.FAILED);
+            outboxRepository.save(entry);
+            logger.error("Task outbox entry failed permanently: id={}, task={}, operation={}, error={}",
+                    entry.getId(), entry.getTaskId(), entry.getOperation(), message);
+            if (entry.getOperation() == OutboxOperation.SUBMIT) {
+                failTask(entry.getTaskId());
+            }
+            return;
+        }
+
+        entry.setNextAttemptAt(LocalDateTime.now().plusNanos(backoffMs(attempts) * 1_000_000L));
+        outboxRepository.save(entry);
+        logger.warn("Task outbox delivery failed, will retry: id={}, task={}, operation={}, attempt={}, error={}",
+                entry.getId(), entry.getTaskId(), entry.getOperation(), attempts, message);
+    }
+
+    /**
+     * Exponential backoff with full jitter, capped at the configured maximum
+     */
+    private long backoffMs(int attempts) {
+        var exponential = baseBackoffMs << Math.min(attempts - 1, 20);
+        var capped = Math.min(exponential, maxBackoffMs);
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    private void failTask(UUID taskId) {
+        var now = LocalDateTime.now();
+        var updated = taskRepository.updateStatusByIds(
+                TaskStatus.FAILED, List.of(taskId), List.of(TaskStatus.PENDING), now);
+        if (updated > 0) {
+            taskRepository.findById(taskId).ifPresent(eventHubService::publishTaskEvent);
+        }
+    }
+
+}
@@ -1,33 +1,40 @@
 package ai.synalix.synalixai.service;
 
+import ai.synalix.synalixai.dto.task.CreateTaskRequest;
 import ai.synalix.synalixai.dto.task.TaskChartResponse;
+import ai.synalix.synalixai.dto.task.TaskMetricSeriesResponse;
 import ai.synalix.synalixai.dto.task.TaskMetricsResponse;
-import ai.synalix.synalixai.dto.task.TrainResponse;
+import ai.synalix.synalixai.dto.task.TaskPageResponse;
+import ai.synalix.synalixai.entity.Dataset;
+import ai.synalix.synalixai.entity.Model;
 import ai.synalix.synalixai.entity.Task;
 import ai.synalix.synalixai.enums.ApiErrorCode;
 import ai.synalix.synalixai.enums.AuditOperationType;
+import ai.synalix.synalixai.enums.OutboxOperation;
 import ai.synalix.synalixai.enums.TaskStatus;
 import ai.synalix.synalixai.enums.TaskType;
 import ai.synalix.synalixai.exception.ApiException;
 import ai.synalix.synalixai.repository.DatasetRepository;
 import ai.synalix.synalixai.repository.ModelRepository;
 import ai.synalix.synalixai.repository.TaskRepository;
+import ai.synalix.synalixai.util.KeysetCursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.ResponseEntity;
-import org.springframework.http.HttpMethod;
 import org.springframework.web.util.UriComponentsBuilder;
-import ai.synalix.synalixai.dto.task.TaskStatusResponse;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Task management service
@@ -37,6 +44,9 @@ public class TaskService {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskService.class);
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
     @Value("${app.backend-base-url}")
     private String backendBaseUrl;
 
@@ -44,54 +54,28 @@ public class TaskService {
     private final ModelRepository modelRepository;
     private final DatasetRepository datasetRepository;
     private final AuditService auditService;
-    private final MinioService minioService;
-    private final RestTemplate restTemplate;
+    private final EventHubService eventHubService;
+    private final TaskMetricsService taskMetricsService;
+    private final TaskOutboxDispatcher taskOutboxDispatcher;
+    private final GpuPermissionService gpuPermissionService;
 
     @Autowired
     public TaskService(TaskRepository taskRepository,
             ModelRepository modelRepository,
             DatasetRepository datasetRepository,
             AuditService auditService,
-            MinioService minioService,
-            RestTemplate restTemplate) {
+            EventHubService eventHubService,
+            TaskMetricsService taskMetricsService,
+            TaskOutboxDispatcher taskOutboxDispatcher,
+            GpuPermissionService gpuPermissionService) {
         this.taskRepository = taskRepository;
         this.modelRepository = modelRepository;
         this.datasetRepository = datasetRepository;
         this.auditService = auditService;
-        this.minioService = minioService;
-        this.restTemplate = restTemplate;
-    }
-
-    @Transactional
-    public Task submitTask(Task task, Map<String, Object> config, UUID userId) {
-        // POST config to backend
-        String taskType = task.getType().equals(TaskType.TRAINING) ? "train" : "infer";
-        var url = backendBaseUrl.endsWith("/") ? backendBaseUrl + "api/" + taskType
-                : backendBaseUrl + "/api/" + taskType;
-        TrainResponse resp;
-        try {
-            resp = restTemplate.postForObject(url, config, TrainResponse.class);
-        } catch (Exception e) {
-            throw new ApiException(ApiErrorCode.INTERNAL_SERVER_ERROR, "Submit training failed");
-        }
-        if (resp == null || resp.getRequest() == null || resp.getRequest().getTaskId() == null) {
-            throw new ApiException(ApiErrorCode.INTERNAL_SERVER_ERROR, "Invalid train response");
-        }
-
-        // Save external task id and update status
-        task.setExternalTaskId(resp.getRequest().getTaskId());
-        task.setStatus(TaskStatus.RUNNING);
-        task.setConfig(config);
-        var saved = taskRepository.save(task);
-
-        // Audit
-        auditService.logAsync(
-                AuditOperationType.TASK_CREATE,
-                userId,
-                saved.getId().toString(),
-                Map.of("externalTaskId", saved.getExternalTaskId(), "status", saved.getStatus().name()));
-
-        return saved;
+        this.eventHubService = eventHubService;
+        this.taskMetricsService = taskMetricsService;
+        this.taskOutboxDispatcher = taskOutboxDispatcher;
+        this.gpuPermissionService = gpuPermissionService;
     }
 
     /**
@@ -99,7 +83,8 @@ public class TaskService {
      */
     @Transactional
     public Task createTask(String name, TaskType type, UUID modelId, UUID datasetId,
-            List<Integer> gpuIds, Map<String, Object> config, UUID userId) {
+            List<Integer> gpuIds, Map<String, Object> config, Integer priority, Integer gpuCount,
+            Integer gpuMemoryMb, UUID userId) {
 
         // Validate Model exists
         if (!modelRepository.existsById(modelId)) {
@@ -110,6 +95,69 @@ public class TaskService {
         if (datasetId != null && !datasetRepository.existsById(datasetId)) {
             throw new ApiException(ApiErrorCode.DATASET_NOT_FOUND);
         }
+
+        // Validate requested GPUs are permitted
+        gpuPermissionService.checkGpuAccess(userId, gpuIds);
+
+        var task = buildTask(name, type, modelId, datasetId, gpuIds, config, priority, gpuCount, gpuMemoryMb, userId);
+        var savedTask = taskRepository.save(task);
+        afterTaskCreated(savedTask, userId);
+        return savedTask;
+    }
+
+    /**
+     * Create several tasks in one transaction. Models and datasets are validated with one query each and
+     * rows are inserted with JDBC batching; items referencing a missing model or dataset are reported
+     * as failures without affecting the others.
+     *
+     * @return one outcome per request, in request order
+     */
+    @Transactional
+    public List<BatchOutcome> createTasks(List<CreateTaskRequest> requests, UUID userId) {
+        var modelIds = requests.stream().map(CreateTaskRequest::getModelId).collect(Collectors.toSet());
+        var datasetIds = requests.stream().map(CreateTaskRequest::getDatasetId)
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+        var existingModels = modelRepository.findAllById(modelIds).stream()
+                .map(Model::getId).collect(Collectors.toSet());
+        var existingDatasets = datasetIds.isEmpty() ? Set.<UUID>of()
+                : datasetRepository.findAllById(datasetIds).stream().map(Dataset::getId).collect(Collectors.toSet());
+
+        var outcomes = new ArrayList<BatchOutcome>(requests.size());
+        var toSave = new ArrayList<Task>();
+        for (var request : requests) {
+            if (!existingModels.contains(request.getModelId())) {
+                outcomes.add(BatchOutcome.failure(ApiErrorCode.MODEL_NOT_FOUND));
+                continue;
+            }
+            if (request.getDatasetId() != null && !existingDatasets.contains(request.getDatasetId())) {
+                outcomes.add(BatchOutcome.failure(ApiErrorCode.DATASET_NOT_FOUND));
+                continue;
+            }
+            try {
+                gpuPermissionService.checkGpuAccess(userId, request.getGpuIds());
+            } catch (ApiException e) {
+                outcomes.add(BatchOutcome.failure(e.getErrorCode()));
+                continue;
+            }
+            var config = request.getConfig() != null ? new HashMap<>(request.getConfig()) : null;
+            var task = buildTask(request.getName(), request.getType(), request.getModelId(), request.getDatasetId(),
+                    request.getGpuIds(), config, request.getPriority(), request.getGpuCount(),
+                    request.getGpuMemoryMb(), userId);
+            toSave.add(task);
+            outcomes.add(new BatchOutcome(task, null, null));
+        }
+
+        // Ids are generated client-side, so saveAll flushes as batched inserts
+        taskRepository.saveAll(toSave);
+        toSave.forEach(task -> afterTaskCreated(task, userId));
+
+        logger.info("Task batch created: requested={}, created={}", requests.size(), toSave.size());
+        return outcomes;
+    }
+
+    private Task buildTask(String name, TaskType type, UUID modelId, UUID datasetId,
+            List<Integer> gpuIds, Map<String, Object> config, Integer priority, Integer gpuCount,
+            Integer gpuMemoryMb, UUID userId) {
         if (datasetId == null) {
             datasetId = UUID.fromString("00000000-0000-0000-0000-000000000000");
         }
@@ -122,6 +170,9 @@ public class TaskService {
         task.setDatasetId(datasetId);
         task.setCreatedBy(userId);
         task.setStatus(TaskStatus.PENDING);
+        task.setPriority(priority != null ? priority : 0);
+        task.setGpuCount(gpuIds != null && !gpuIds.isEmpty() ? gpuIds.size() : (gpuCount != null ? gpuCount : 1));
+        task.setGpuMemoryMb(gpuMemoryMb);
 
         // Add gpuIds to config if present
         if (gpuIds != null && !gpuIds.isEmpty()) {
@@ -131,41 +182,57 @@ public class TaskService {
             config.put("gpuIds", gpuIds);
         }
         task.setConfig(config);
+        return task;
+    }
 
-        var savedTask = taskRepository.save(task);
-
+    private void afterTaskCreated(Task savedTask, UUID userId) {
         // Audit log
         Map<String, Object> details = Map.of(
-                "name", name,
-                "type", type,
-                "modelId", modelId,
-                "datasetId", datasetId);
+                "name", savedTask.getName(),
+                "type", savedTask.getType(),
+                "modelId", savedTask.getModelId(),
+                "datasetId", savedTask.getDatasetId());
         auditService.logAsync(AuditOperationType.TASK_CREATE, userId, savedTask.getId().toString(), details);
 
-        savedTask = submitTask(savedTask, config, userId);
+        // Held as PENDING until TaskAdmissionScheduler finds free permitted GPUs and queues the submit
+        eventHubService.publishTaskEvent(savedTask);
 
         logger.info("Task created successfully: id={}, name={}, type={}",
                 savedTask.getId(), savedTask.getName(), savedTask.getType());
+    }
 
-        return savedTask;
+    /**
+     * Get a page of task summaries using keyset pagination on (createdAt, id).
+     * Statuses are kept up to date by {@link TaskStatusReconciler}, so this reads straight from the database.
+     */
+    public TaskPageResponse getAllTasks(TaskStatus status, TaskType type, UUID createdBy, String cursor, Integer limit) {
+        var pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        var after = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+        // Fetch one extra row to know whether another page exists
+        var rows = taskRepository.findSummaries(status, type, createdBy, after, pageSize + 1);
+
+        if (rows.size() <= pageSize) {
+            return new TaskPageResponse(rows, null);
+        }
+        var items = rows.subList(0, pageSize);
+        var last = items.get(pageSize - 1);
+        return new TaskPageResponse(items, KeysetCursor.encode(last.getCreatedAt(), last.getId()));
     }
 
     /**
-     * Get all tasks
+     * Admit a pending task onto the given GPUs and queue its backend submission.
+     *
+     * @return false if the task was stopped or admitted by someone else meanwhile
      */
-    public List<Task> getAllTasks(TaskStatus status, TaskType type) {
-        List<Task> results;
-        if (status != null && type != null) {
-            results = taskRepository.findByStatusAndType(status, type);
-        } else if (status != null) {
-            results = taskRepository.findByStatus(status);
-        } else if (type != null) {
-            results = taskRepository.findByType(type);
-        } else {
-            results = taskRepository.findAll();
+    @Transactional
+    public boolean admitTask(UUID taskId, List<Integer> gpuIds) {
+        // The conditional update is the guard: only one admitter, on any instance, can win it
+        var gpuIdsJson = gpuIds.stream().map(String::valueOf).collect(Collectors.joining(",", "[", "]"));
+        if (taskRepository.admitPending(taskId, gpuIdsJson, LocalDateTime.now()) != 1) {
+            return false;
         }
-        results.forEach(this::refreshStatus);
-        return results;
+        taskOutboxDispatcher.enqueue(taskId, OutboxOperation.SUBMIT);
+        return true;
     }
 
     /**
@@ -177,7 +244,7 @@ public class TaskService {
     }
 
     /**
-     * Stop task by calling backend /api/tasks/cancel?task_id=externalTaskId
+     * Stop task; the backend /api/tasks/cancel?task_id=externalTaskId call is delivered via the outbox
      */
     @Transactional
     public Task stopTask(UUID taskId, UUID userId) {
@@ -189,64 +256,113 @@ public class TaskService {
             throw new ApiException(ApiErrorCode.TASK_CANNOT_STOP);
         }
 
-        // 后端取消调用
-        if (task.getExternalTaskId() != null && !task.getExternalTaskId().isBlank()) {
-            var base = backendBaseUrl.endsWith("/") ? backendBaseUrl + "api/tasks/cancel"
-                    : backendBaseUrl + "/api/tasks/cancel";
-            var url = UriComponentsBuilder.fromUriString(base)
-                    .queryParam("task_id", task.getExternalTaskId())
-                    .toUriString();
-            try {
-                ResponseEntity<Void> resp = restTemplate.exchange(url, HttpMethod.POST, null, Void.class);
-                if (!resp.getStatusCode().is2xxSuccessful()) {
-                    throw new ApiException(ApiErrorCode.INTERNAL_SERVER_ERROR, "Backend cancel failed");
-                }
-            } catch (Exception e) {
-                throw new ApiException(ApiErrorCode.INTERNAL_SERVER_ERROR, "Backend cancel failed");
-            }
-        }
-
+        // 后端取消调用由 TaskOutboxDispatcher 在事务提交后异步完成
         var previousStatus = task.getStatus();
+        var updated = taskRepository.updateStatusByIds(
+                TaskStatus.STOPPED, List.of(task.getId()), TaskStatusReconciler.ACTIVE_STATUSES, LocalDateTime.now());
+        if (updated == 0) {
+            throw new ApiException(ApiErrorCode.TASK_CANNOT_STOP);
+        }
+        taskOutboxDispatcher.enqueue(task.getId(), OutboxOperation.CANCEL);
         task.setStatus(TaskStatus.STOPPED);
-        var savedTask = taskRepository.save(task);
 
         // 审计
         auditService.logAsync(
                 AuditOperationType.TASK_STOP,
                 userId,
-                savedTask.getId().toString(),
-                Map.of("previousStatus", previousStatus, "externalTaskId", savedTask.getExternalTaskId()));
+                task.getId().toString(),
+                Map.of("previousStatus", previousStatus,
+                        "externalTaskId", Objects.toString(task.getExternalTaskId(), "")));
+        eventHubService.publishTaskEvent(task);
 
         logger.info("Task stopped successfully: id={}, externalTaskId={}", taskId, task.getExternalTaskId());
-        return savedTask;
+        return task;
     }
 
     /**
-     * Get task metrics
+     * Stop several tasks with one status update; backend cancels are delivered via the outbox in parallel
+     *
+     * @return one outcome per requested id, in request order
      */
-    public List<TaskMetricsResponse> getTaskMetrics(UUID taskId) {
-        var task = getTaskById(taskId);
+    @Transactional
+    public List<BatchOutcome> stopTasks(List<UUID> taskIds, UUID userId) {
+        var distinctIds = new LinkedHashSet<>(taskIds);
+        var previousStatus = new HashMap<UUID, TaskStatus>();
+        taskRepository.findAllById(distinctIds).forEach(task -> previousStatus.put(task.getId(), task.getStatus()));
+
+        var stoppable = previousStatus.entrySet().stream()
+                .filter(e -> TaskStatusReconciler.ACTIVE_STATUSES.contains(e.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+        Map<UUID, Task> stopped = new HashMap<>();
+        if (!stoppable.isEmpty()) {
+            taskRepository.updateStatusByIds(
+                    TaskStatus.STOPPED, stoppable, TaskStatusReconciler.ACTIVE_STATUSES, LocalDateTime.now());
+            // Re-read to learn which rows this update changed; a concurrent transition may have won some of them
+            taskRepository.findAllById(stoppable).stream()
+                    .filter(task -> task.getStatus() == TaskStatus.STOPPED)
+                    .forEach(task -> stopped.put(task.getId(), task));
+            taskOutboxDispatcher.enqueueAll(stopped.keySet(), OutboxOperation.CANCEL);
+        }
 
-        // In a real implementation, this would query the training backend or metrics
-        // database
-        // For now, we return a basic response based on task status
+        for (var task : stopped.values()) {
+            auditService.logAsync(
+                    AuditOperationType.TASK_STOP,
+                    userId,
+                    task.getId().toString(),
+                    Map.of("previousStatus", previousStatus.get(task.getId()),
+                            "externalTaskId", Objects.toString(task.getExternalTaskId(), "")));
+            eventHubService.publishTaskEvent(task);
+        }
+
+        var outcomes = new ArrayList<BatchOutcome>(taskIds.size());
+        for (var taskId : taskIds) {
+            if (stopped.containsKey(taskId)) {
+                outcomes.add(new BatchOutcome(stopped.get(taskId), null, null));
+            } else if (!previousStatus.containsKey(taskId)) {
+                outcomes.add(BatchOutcome.failure(ApiErrorCode.TASK_NOT_FOUND, taskId));
+            } else {
+                outcomes.add(BatchOutcome.failure(ApiErrorCode.TASK_CANNOT_STOP, taskId));
+            }
+        }
+
+        logger.info("Task batch stopped: requested={}, stopped={}", taskIds.size(), stopped.size());
+        return outcomes;
+    }
 
-        var metrics = new TaskMetricsResponse();
-        metrics.setTaskId(taskId);
-        metrics.setTimestamp(LocalDateTime.now());
-
-        if (task.getStatus() == TaskStatus.RUNNING) {
-            // Mock data for running task
-            metrics.setEpoch(1);
-            metrics.setLoss(0.5);
-            metrics.setAccuracy(0.8);
-        } else {
-            metrics.setEpoch(0);
-            metrics.setLoss(0.0);
-            metrics.setAccuracy(0.0);
+    /**
+     * Outcome of one item of a batch operation: the task on success, otherwise the error
+     */
+    public record BatchOutcome(Task task, ApiErrorCode errorCode, UUID taskId) {
+
+        static BatchOutcome failure(ApiErrorCode errorCode) {
+            return new BatchOutcome(null, errorCode, null);
+        }
+
+        static BatchOutcome failure(ApiErrorCode errorCode, UUID taskId) {
+            return new BatchOutcome(null, errorCode, taskId);
+        }
+
+        public boolean success() {
+            return errorCode == null;
         }
+    }
+
+    /**
+     * Get task metrics
+     */
+    public List<TaskMetricsResponse> getTaskMetrics(UUID taskId) {
+        var task = getTaskById(taskId);
+        return List.of(taskMetricsService.getLatestMetrics(task.getId()));
+    }
 
-        return List.of(metrics);
+    /**
+     * Get a metric series of a task, downsampled for charting
+     */
+    public TaskMetricSeriesResponse getTaskMetricSeries(UUID taskId, String metric, LocalDateTime from,
+                                                        LocalDateTime to, Integer points) {
+        var task = getTaskById(taskId);
+        return taskMetricsService.getSeries(task.getId(), metric, from, to, points);
     }
 
     /**
@@ -270,61 +386,10 @@ public class TaskService {
         return chart;
     }
 
-    /**
-     * Get task logs
-     */
-    public String getTaskLogs(UUID taskId) {
-        // Verify task exists
-        getTaskById(taskId);
-
-        // Retrieve logs from MinIO
-        return minioService.getTaskLogs(taskId);
-    }
-
-    /**
-     * Query backend ${app.backend-base-url}/api/tasks by task_id and update local
-     * Task status.
-     * If backend returns multiple items, match by task.externalTaskId.
-     */
-    @Transactional
-    public Task refreshStatus(Task task) {
-        if (task.getExternalTaskId() == null || task.getExternalTaskId().isBlank()) {
-            return task;
-        }
-        var base = backendBaseUrl.endsWith("/") ? backendBaseUrl + "api/tasks" : backendBaseUrl + "/api/tasks";
-        var url = UriComponentsBuilder.fromUriString(base)
-                .queryParam("task_id", task.getExternalTaskId())
-                .toUriString();
-        Map<String, TaskStatusResponse> resp;
-        try {
-            ResponseEntity<Map<String, TaskStatusResponse>> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<Map<String, TaskStatusResponse>>() {
-                    });
-            resp = response.getBody();
-        } catch (Exception e) {
-            return task;
-        }
-        if (resp == null || resp.isEmpty()) {
-            return task;
-        }
-
-        var item = resp.get(task.getExternalTaskId());
-        if (item == null) {
-            return task;
-        }
-        var newStatus = mapBackendStatus(item.getStatus());
-        task.setStatus(newStatus);
-        var saved = taskRepository.save(task);
-        return saved;
-    }
-
     /**
      * Map backend status string to local TaskStatus enum.
      */
-    private TaskStatus mapBackendStatus(String backendStatus) {
+    static TaskStatus mapBackendStatus(String backendStatus) {
         if (backendStatus == null)
             return TaskStatus.PENDING;
         return switch (backendStatus.toLowerCase()) {
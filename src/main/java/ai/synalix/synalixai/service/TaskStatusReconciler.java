@@ -0,0 +1,141 @@
+package ai.synalix.synalixai.service;
+
+import ai.synalix.synalixai.dto.task.TaskStatusResponse;
+import ai.synalix.synalixai.entity.Task;
+import ai.synalix.synalixai.enums.TaskStatus;
+import ai.synalix.synalixai.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Background reconciler that keeps local task status in sync with the training backend.
+ * Polls all non-terminal tasks with a single backend query per cycle and bulk-updates
+ * only the rows whose status actually changed.
+ */
+@Service
+public class TaskStatusReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskStatusReconciler.class);
+
+    /**
+     * Statuses that may still change on the backend side
+     */
+    static final List<TaskStatus> ACTIVE_STATUSES = List.of(TaskStatus.PENDING, TaskStatus.RUNNING);
+
+    @Value("${app.backend-base-url}")
+    private String backendBaseUrl;
+
+    private final TaskRepository taskRepository;
+    private final RestTemplate restTemplate;
+    private final EventHubService eventHubService;
+    private final BackendCircuitBreaker backendCircuitBreaker;
+
+    @Autowired
+    public TaskStatusReconciler(TaskRepository taskRepository,
+                                @Qualifier("backendStatusRestTemplate") RestTemplate restTemplate,
+                                EventHubService eventHubService,
+                                BackendCircuitBreaker backendCircuitBreaker) {
+        this.taskRepository = taskRepository;
+        this.restTemplate = restTemplate;
+        this.eventHubService = eventHubService;
+        this.backendCircuitBreaker = backendCircuitBreaker;
+    }
+
+    /**
+     * Reconcile active task statuses with the backend
+     */
+    @Scheduled(fixedDelayString = "${app.task-reconciler.interval-ms}",
+            initialDelayString = "${app.task-reconciler.interval-ms}")
+    public void reconcile() {
+        var activeTasks = taskRepository.findSubmittedByStatusIn(ACTIVE_STATUSES);
+        if (activeTasks.isEmpty()) {
+            return;
+        }
+
+        var backendStatuses = fetchBackendStatuses();
+        if (backendStatuses == null || backendStatuses.isEmpty()) {
+            return;
+        }
+
+        var changed = collectChanges(activeTasks, backendStatuses);
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        var now = LocalDateTime.now();
+        var updated = 0;
+        for (var entry : changed.entrySet()) {
+            var ids = entry.getValue().stream().map(Task::getId).toList();
+            if (taskRepository.updateStatusByIds(entry.getKey(), ids, ACTIVE_STATUSES, now) == 0) {
+                continue;
+            }
+            // Re-read to learn which rows this update changed; a concurrent stop may have won some of them
+            for (var task : taskRepository.findAllById(ids)) {
+                if (task.getStatus() == entry.getKey()) {
+                    updated++;
+                    eventHubService.publishTaskEvent(task);
+                }
+            }
+        }
+        logger.info("Task status reconciled: active={}, updated={}", activeTasks.size(), updated);
+    }
+
+    /**
+     * Group tasks whose backend status differs from the local one by their new status
+     */
+    private Map<TaskStatus, List<Task>> collectChanges(List<Task> tasks, Map<String, TaskStatusResponse> backendStatuses) {
+        Map<TaskStatus, List<Task>> changed = new EnumMap<>(TaskStatus.class);
+        for (var task : tasks) {
+            var item = backendStatuses.get(task.getExternalTaskId());
+            if (item == null) {
+                continue;
+            }
+            var newStatus = TaskService.mapBackendStatus(item.getStatus());
+            if (newStatus != task.getStatus()) {
+                changed.computeIfAbsent(newStatus, s -> new ArrayList<>()).add(task);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Query backend ${app.backend-base-url}/api/tasks once for all known tasks, through the circuit breaker.
+     * Returns null while the backend is failing, so the cycle is skipped instead of waiting for a timeout.
+     */
+    private Map<String, TaskStatusResponse> fetchBackendStatuses() {
+        var url = backendBaseUrl.endsWith("/") ? backendBaseUrl + "api/tasks" : backendBaseUrl + "/api/tasks";
+        try {
+            var result = backendCircuitBreaker.read(BackendCircuitBreaker.TASK_STATUS, "all", () -> {
+                var response = restTemplate.exchange(
+                        url,
+                        HttpMethod.GET,
+                        null,
+                        new ParameterizedTypeReference<Map<String, TaskStatusResponse>>() {
+                        });
+                return response.getBody();
+            });
+            if (result.stale()) {
+                logger.debug("Backend unavailable, task status reconcile skipped");
+                return null;
+            }
+            return result.value();
+        } catch (Exception e) {
+            logger.warn("Failed to fetch task statuses from backend: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -32,16 +32,19 @@ public class UserService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuditService auditService;
+    private final AuthTokenCache authTokenCache;
 
     @Autowired
     public UserService(UserRepository userRepository,
                       RefreshTokenRepository refreshTokenRepository,
                       PasswordEncoder passwordEncoder,
-                      AuditService auditService) {
+                      AuditService auditService,
+                      AuthTokenCache authTokenCache) {
         this.userRepository = userRepository;
         this.refreshTokenRepository = refreshTokenRepository;
         this.passwordEncoder = passwordEncoder;
         this.auditService = auditService;
+        this.authTokenCache = authTokenCache;
     }
 
     /**
@@ -225,6 +228,7 @@ public class UserService {
         // Revoke all refresh tokens to force re-login with new role
         int revokedCount = refreshTokenRepository.revokeAllTokensByUserId(userId);
         logger.info("Revoked {} refresh tokens for user: {}", revokedCount, userId);
+        authTokenCache.invalidateUser(userId);
 
         // Audit log
         Map<String, Object> changes = Map.of(
@@ -264,6 +268,7 @@ public class UserService {
             var revokedCount = refreshTokenRepository.revokeAllTokensByUserId(userId);
             logger.info("Revoked {} refresh tokens for disabled user: {}", revokedCount, userId);
         }
+        authTokenCache.invalidateUser(userId);
 
         // Audit log
         Map<String, Object> changes = Map.of(
@@ -300,6 +305,7 @@ public class UserService {
 
         // Delete user
         userRepository.delete(user);
+        authTokenCache.invalidateUser(userId);
 
         // Audit log
         Map<String, Object> eventData = Map.of(
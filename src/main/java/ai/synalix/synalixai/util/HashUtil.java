@@ -0,0 +1,40 @@
+package ai.synalix.synalixai.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Hashing helpers
+ */
+public final class HashUtil {
+
+    private HashUtil() {
+    }
+
+    /**
+     * SHA-256 digest of the given bytes as lowercase hex
+     */
+    public static String sha256Hex(byte[] data) {
+        return HexFormat.of().formatHex(newSha256().digest(data));
+    }
+
+    /**
+     * SHA-256 digest of the UTF-8 encoding of the given string as lowercase hex
+     */
+    public static String sha256Hex(String value) {
+        return sha256Hex(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * New SHA-256 digest for incremental hashing
+     */
+    public static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
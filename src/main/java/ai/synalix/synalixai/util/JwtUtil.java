@@ -4,6 +4,7 @@ import ai.synalix.synalixai.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,6 +15,7 @@ import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -34,11 +36,18 @@ public class JwtUtil {
     private Long refreshTokenExpiration;
 
     /**
-     * Get signing key from secret
+     * Signing key and parser, built once from the secret; both are immutable and thread-safe
      */
-    private SecretKey getSigningKey() {
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
         byte[] keyBytes = Base64.getDecoder().decode(jwtSecret);
-        return Keys.hmacShaKeyFor(keyBytes);
+        signingKey = Keys.hmacShaKeyFor(keyBytes);
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
     /**
@@ -79,7 +88,7 @@ public class JwtUtil {
                 .subject(subject)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -133,16 +142,35 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
+    /**
+     * Parse an access token once: verify its signature and expiration and return its claims
+     *
+     * @return the verified claims, or empty if the token is invalid, expired or not an access token
+     */
+    public Optional<Claims> parseAccessToken(String token) {
+        try {
+            var claims = extractAllClaims(token);
+            return "access".equals(claims.get("type", String.class)) ? Optional.of(claims) : Optional.empty();
+        } catch (Exception e) {
+            logger.debug("Token validation failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Validate already verified claims against user
+     */
+    public boolean validateClaims(Claims claims, User user) {
+        return user.getUsername().equals(claims.getSubject())
+                && user.getId().toString().equals(claims.get("userId", String.class));
+    }
+
     /**
      * Extract all claims from token
      */
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return parser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             logger.debug("JWT token expired: {}", e.getMessage());
             throw e;
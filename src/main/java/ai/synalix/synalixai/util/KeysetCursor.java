@@ -0,0 +1,54 @@
+package ai.synalix.synalixai.util;
+
+import ai.synalix.synalixai.enums.ApiErrorCode;
+import ai.synalix.synalixai.exception.ApiException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque URL-safe cursor for keyset pagination on a (timestamp, id) pair
+ */
+public final class KeysetCursor {
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * Decoded keyset position
+     */
+    public record Position(LocalDateTime timestamp, UUID id) {
+    }
+
+    /**
+     * Encode a (timestamp, id) keyset position, with microsecond precision
+     */
+    public static String encode(LocalDateTime timestamp, UUID id) {
+        var micros = timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + timestamp.getNano() / 1_000;
+        var raw = micros + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor produced by {@link #encode(LocalDateTime, UUID)}
+     *
+     * @throws ApiException INVALID_REQUEST_FORMAT if the cursor is malformed
+     */
+    public static Position decode(String cursor) {
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var separator = raw.indexOf(':');
+            var micros = Long.parseLong(raw.substring(0, separator));
+            var timestamp = LocalDateTime.ofInstant(
+                    Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L),
+                    ZoneOffset.UTC);
+            return new Position(timestamp, UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new ApiException(ApiErrorCode.INVALID_REQUEST_FORMAT, "Invalid cursor");
+        }
+    }
+}
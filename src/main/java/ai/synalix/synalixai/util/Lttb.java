@@ -0,0 +1,66 @@
+package ai.synalix.synalixai.util;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling over primitive columns
+ */
+public final class Lttb {
+
+    private Lttb() {
+    }
+
+    /**
+     * Select the indices of at most {@code threshold} points that best preserve the visual shape of the series.
+     * The first and last points are always kept.
+     *
+     * @param x         ascending x values
+     * @param y         y values
+     * @param count     number of points to consider
+     * @param threshold maximum number of points to return; values below 3 keep every point
+     * @return selected indices in ascending order
+     */
+    public static int[] downsample(long[] x, double[] y, int count, int threshold) {
+        if (threshold >= count || threshold < 3) {
+            var all = new int[count];
+            for (var i = 0; i < count; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        var selected = new int[threshold];
+        var bucketSize = (double) (count - 2) / (threshold - 2);
+        var a = 0;
+        selected[0] = 0;
+
+        for (var bucket = 0; bucket < threshold - 2; bucket++) {
+            // Average of the next bucket is the third triangle vertex
+            var nextStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            var nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, count);
+            var avgX = 0.0;
+            var avgY = 0.0;
+            for (var i = nextStart; i < nextEnd; i++) {
+                avgX += x[i];
+                avgY += y[i];
+            }
+            var nextLength = Math.max(nextEnd - nextStart, 1);
+            avgX /= nextLength;
+            avgY /= nextLength;
+
+            var start = (int) Math.floor(bucket * bucketSize) + 1;
+            var end = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            var maxArea = -1.0;
+            var chosen = start;
+            for (var i = start; i < end; i++) {
+                var area = Math.abs((x[a] - avgX) * (y[i] - y[a]) - (x[a] - x[i]) * (avgY - y[a]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    chosen = i;
+                }
+            }
+            selected[bucket + 1] = chosen;
+            a = chosen;
+        }
+        selected[threshold - 1] = count - 1;
+        return selected;
+    }
+}
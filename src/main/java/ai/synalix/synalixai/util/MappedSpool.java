@@ -0,0 +1,199 @@
+package ai.synalix.synalixai.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only, disk-backed spool of byte records written through memory-mapped segment files.
+ * <p>
+ * Each record is framed as {@code [int length][int crc32c][payload]}; a zero length marks the end of a
+ * segment's data. Records are appended to the active segment until it is full, then a new segment is
+ * started. {@link #replay} hands sealed segments to a handler oldest first and deletes each one the
+ * handler accepts. Segments left over from a previous run are replayed as well; a record cut short by a
+ * crash fails its CRC check and ends that segment.
+ */
+public final class MappedSpool {
+
+    private static final int HEADER_BYTES = 8;
+    private static final String SUFFIX = ".spool";
+    private static final String ACTIVE_SUFFIX = ".active";
+
+    private final Path directory;
+    private final int segmentBytes;
+
+    private long nextSegment;
+    private Path activePath;
+    private MappedByteBuffer active;
+    private int activeRecords;
+
+    /**
+     * @param directory    directory holding the segment files, created if missing
+     * @param segmentBytes size of each segment file
+     */
+    public MappedSpool(Path directory, int segmentBytes) throws IOException {
+        if (segmentBytes <= HEADER_BYTES * 2) {
+            throw new IllegalArgumentException("segmentBytes too small");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentBytes = segmentBytes;
+        recoverActiveSegments();
+        this.nextSegment = sealedSegments().stream()
+                .mapToLong(MappedSpool::segmentNumber)
+                .max()
+                .orElse(-1) + 1;
+    }
+
+    /**
+     * Append one record; the write is durable after the next {@link #flush}
+     *
+     * @throws IllegalArgumentException if the record does not fit in a segment
+     */
+    public synchronized void append(byte[] payload) throws IOException {
+        if (payload.length == 0 || payload.length > segmentBytes - HEADER_BYTES * 2) {
+            throw new IllegalArgumentException("record size out of range: " + payload.length);
+        }
+        if (active == null || active.remaining() < HEADER_BYTES * 2 + payload.length) {
+            seal();
+            openSegment();
+        }
+        var crc = new CRC32C();
+        crc.update(payload);
+        // Write the payload before the length so a torn record reads as end of data or fails its CRC
+        var position = active.position();
+        active.position(position + HEADER_BYTES);
+        active.put(payload);
+        active.putInt(position + 4, (int) crc.getValue());
+        active.putInt(position, payload.length);
+        activeRecords++;
+    }
+
+    /**
+     * Force appended records of the active segment to disk
+     */
+    public synchronized void flush() {
+        if (active != null) {
+            active.force();
+        }
+    }
+
+    /**
+     * Whether any records are waiting to be replayed
+     */
+    public synchronized boolean isEmpty() {
+        return activeRecords == 0 && sealedSegments().isEmpty();
+    }
+
+    /**
+     * Hand each segment's records to the handler, oldest segment first. A segment is deleted when the
+     * handler returns true; replay stops at the first segment it rejects, which is kept for the next call.
+     *
+     * @return number of records replayed and deleted
+     */
+    public int replay(Predicate<List<byte[]>> handler) throws IOException {
+        synchronized (this) {
+            if (activeRecords > 0) {
+                seal();
+            }
+        }
+        var replayed = 0;
+        for (var segment : sealedSegments()) {
+            var records = read(segment);
+            if (!records.isEmpty() && !handler.test(records)) {
+                break;
+            }
+            Files.deleteIfExists(segment);
+            replayed += records.size();
+        }
+        return replayed;
+    }
+
+    private void openSegment() throws IOException {
+        activePath = directory.resolve(String.format("%020d%s%s", nextSegment++, SUFFIX, ACTIVE_SUFFIX));
+        try (var channel = FileChannel.open(activePath, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            active = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        }
+        activeRecords = 0;
+    }
+
+    /**
+     * Flush the active segment and rename it so replay picks it up
+     */
+    private void seal() throws IOException {
+        if (active == null) {
+            return;
+        }
+        active.force();
+        active = null;
+        sealFile(activePath);
+        activePath = null;
+        activeRecords = 0;
+    }
+
+    /**
+     * Seal segments that were still active when a previous run stopped
+     */
+    private void recoverActiveSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            var leftovers = files
+                    .filter(path -> path.getFileName().toString().endsWith(SUFFIX + ACTIVE_SUFFIX))
+                    .toList();
+            for (var path : leftovers) {
+                sealFile(path);
+            }
+        }
+    }
+
+    private static void sealFile(Path activeFile) throws IOException {
+        var name = activeFile.getFileName().toString();
+        Files.move(activeFile, activeFile.resolveSibling(name.substring(0, name.length() - ACTIVE_SUFFIX.length())));
+    }
+
+    private List<Path> sealedSegments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<byte[]> read(Path segment) throws IOException {
+        var records = new ArrayList<byte[]>();
+        try (var channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            while (buffer.remaining() >= HEADER_BYTES) {
+                var length = buffer.getInt();
+                var expectedCrc = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    break;
+                }
+                var payload = new byte[length];
+                buffer.get(payload);
+                var crc = new CRC32C();
+                crc.update(payload);
+                if ((int) crc.getValue() != expectedCrc) {
+                    break;
+                }
+                records.add(payload);
+            }
+        }
+        return records;
+    }
+
+    private static long segmentNumber(Path segment) {
+        var name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+}
@@ -0,0 +1,95 @@
+package ai.synalix.synalixai.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free queue for many producers and a single consumer.
+ * <p>
+ * Producers claim a slot with one CAS on the tail and publish the element into it; {@link #offer} never
+ * blocks and fails when the ring is full. Only one thread may call {@link #drain}.
+ *
+ * @param <E> element type
+ */
+public final class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Next position to consume; written only by the consumer
+     */
+    private volatile long head;
+
+    /**
+     * @param capacity maximum number of queued elements, rounded up to a power of two
+     */
+    public MpscRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30");
+        }
+        var size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Enqueue an element
+     *
+     * @return false if the ring is full
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+        long position;
+        do {
+            position = tail.get();
+            if (position - head > mask) {
+                return false;
+            }
+        } while (!tail.compareAndSet(position, position + 1));
+        slots.lazySet((int) position & mask, element);
+        return true;
+    }
+
+    /**
+     * Hand up to {@code max} elements to the consumer, oldest first; single consumer thread only
+     *
+     * @return number of elements drained
+     */
+    public int drain(Consumer<? super E> consumer, int max) {
+        var position = head;
+        var drained = 0;
+        while (drained < max) {
+            var index = (int) position & mask;
+            var element = slots.get(index);
+            if (element == null) {
+                // Empty, or the producer that claimed this slot has not published yet
+                break;
+            }
+            slots.lazySet(index, null);
+            position++;
+            head = position;
+            consumer.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Number of queued elements, including claimed slots not yet published
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
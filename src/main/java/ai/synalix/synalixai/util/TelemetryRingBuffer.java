@@ -0,0 +1,111 @@
+package ai.synalix.synalixai.util;
+
+/**
+ * Fixed-capacity ring of GPU telemetry samples held in primitive columns.
+ * <p>
+ * Samples must be appended in non-decreasing time order; once full, the oldest sample is overwritten.
+ * Utilization and temperature are stored in tenths (per mille, tenths of a degree) so every column is
+ * an integer and range reads can be delta-encoded without loss.
+ */
+public final class TelemetryRingBuffer {
+
+    /**
+     * Marker for a missing utilization or temperature reading
+     */
+    public static final int MISSING = Integer.MIN_VALUE;
+
+    private final long[] timestamps;
+    private final int[] utilization;
+    private final int[] temperature;
+    private final int[] memoryUsed;
+
+    private int head;
+    private int size;
+
+    public TelemetryRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.timestamps = new long[capacity];
+        this.utilization = new int[capacity];
+        this.temperature = new int[capacity];
+        this.memoryUsed = new int[capacity];
+    }
+
+    /**
+     * Samples copied out of the ring, oldest first
+     */
+    public record Samples(long[] timestamps, int[] utilization, int[] temperature, int[] memoryUsed) {
+
+        public int size() {
+            return timestamps.length;
+        }
+    }
+
+    /**
+     * Append a sample, overwriting the oldest one when full
+     *
+     * @param timestamp   epoch milliseconds
+     * @param utilization per mille, or {@link #MISSING}
+     * @param temperature tenths of a degree Celsius, or {@link #MISSING}
+     * @param memoryUsed  MB
+     */
+    public synchronized void add(long timestamp, int utilization, int temperature, int memoryUsed) {
+        var index = (head + size) % timestamps.length;
+        if (size == timestamps.length) {
+            head = (head + 1) % timestamps.length;
+        } else {
+            size++;
+        }
+        this.timestamps[index] = timestamp;
+        this.utilization[index] = utilization;
+        this.temperature[index] = temperature;
+        this.memoryUsed[index] = memoryUsed;
+    }
+
+    /**
+     * Copy the samples with {@code from <= timestamp < to}
+     */
+    public synchronized Samples range(long from, long to) {
+        var first = lowerBound(from);
+        var last = lowerBound(to);
+        var count = last - first;
+        var result = new Samples(new long[count], new int[count], new int[count], new int[count]);
+        for (var i = 0; i < count; i++) {
+            var index = (head + first + i) % timestamps.length;
+            result.timestamps()[i] = timestamps[index];
+            result.utilization()[i] = utilization[index];
+            result.temperature()[i] = temperature[index];
+            result.memoryUsed()[i] = memoryUsed[index];
+        }
+        return result;
+    }
+
+    /**
+     * Timestamp of the oldest retained sample, or -1 when empty
+     */
+    public synchronized long oldestTimestamp() {
+        return size == 0 ? -1 : timestamps[head];
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Logical position of the first sample with timestamp >= time
+     */
+    private int lowerBound(long time) {
+        var low = 0;
+        var high = size;
+        while (low < high) {
+            var mid = (low + high) >>> 1;
+            if (timestamps[(head + mid) % timestamps.length] < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,219 @@
+package ai.synalix.synalixai.util;
+
+import java.util.Arrays;
+
+/**
+ * Gorilla-style columnar codec for metric chunks.
+ * <p>
+ * Layout: point count (32 bits), then the step column and the timestamp column encoded with
+ * delta-of-delta, then the value column encoded with XOR against the previous value.
+ * Regular training steps and evenly spaced timestamps collapse to about one bit per point.
+ */
+public final class TimeSeriesCodec {
+
+    private TimeSeriesCodec() {
+    }
+
+    /**
+     * Decoded chunk columns
+     */
+    public record Columns(long[] steps, long[] timestamps, double[] values) {
+
+        public int size() {
+            return steps.length;
+        }
+    }
+
+    /**
+     * Encode the first {@code count} points of the given columns
+     */
+    public static byte[] encode(long[] steps, long[] timestamps, double[] values, int count) {
+        var writer = new BitWriter(Math.max(64, count * 2));
+        writer.write(count, 32);
+        encodeLongs(writer, steps, count);
+        encodeLongs(writer, timestamps, count);
+        encodeDoubles(writer, values, count);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Decode a chunk produced by {@link #encode(long[], long[], double[], int)}
+     */
+    public static Columns decode(byte[] data) {
+        var reader = new BitReader(data);
+        var count = (int) reader.read(32);
+        var steps = decodeLongs(reader, count);
+        var timestamps = decodeLongs(reader, count);
+        var values = decodeDoubles(reader, count);
+        return new Columns(steps, timestamps, values);
+    }
+
+    private static void encodeLongs(BitWriter writer, long[] column, int count) {
+        if (count == 0) {
+            return;
+        }
+        writer.write(column[0], 64);
+        var prevDelta = 0L;
+        for (var i = 1; i < count; i++) {
+            var delta = column[i] - column[i - 1];
+            var dod = delta - prevDelta;
+            prevDelta = delta;
+            // Zigzag so small negative deltas stay small
+            var zigzag = (dod << 1) ^ (dod >> 63);
+            if (zigzag == 0) {
+                writer.write(0b0, 1);
+            } else if (Long.compareUnsigned(zigzag, 1L << 7) < 0) {
+                writer.write(0b10, 2);
+                writer.write(zigzag, 7);
+            } else if (Long.compareUnsigned(zigzag, 1L << 9) < 0) {
+                writer.write(0b110, 3);
+                writer.write(zigzag, 9);
+            } else if (Long.compareUnsigned(zigzag, 1L << 12) < 0) {
+                writer.write(0b1110, 4);
+                writer.write(zigzag, 12);
+            } else {
+                writer.write(0b1111, 4);
+                writer.write(zigzag, 64);
+            }
+        }
+    }
+
+    private static long[] decodeLongs(BitReader reader, int count) {
+        var column = new long[count];
+        if (count == 0) {
+            return column;
+        }
+        column[0] = reader.read(64);
+        var prevDelta = 0L;
+        for (var i = 1; i < count; i++) {
+            long zigzag;
+            if (reader.read(1) == 0) {
+                zigzag = 0;
+            } else if (reader.read(1) == 0) {
+                zigzag = reader.read(7);
+            } else if (reader.read(1) == 0) {
+                zigzag = reader.read(9);
+            } else if (reader.read(1) == 0) {
+                zigzag = reader.read(12);
+            } else {
+                zigzag = reader.read(64);
+            }
+            var dod = (zigzag >>> 1) ^ -(zigzag & 1);
+            prevDelta += dod;
+            column[i] = column[i - 1] + prevDelta;
+        }
+        return column;
+    }
+
+    private static void encodeDoubles(BitWriter writer, double[] column, int count) {
+        if (count == 0) {
+            return;
+        }
+        var prev = Double.doubleToRawLongBits(column[0]);
+        writer.write(prev, 64);
+        var prevLeading = -1;
+        var prevTrailing = 0;
+        for (var i = 1; i < count; i++) {
+            var bits = Double.doubleToRawLongBits(column[i]);
+            var xor = bits ^ prev;
+            prev = bits;
+            if (xor == 0) {
+                writer.write(0b0, 1);
+                continue;
+            }
+            writer.write(0b1, 1);
+            var leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+            var trailing = Long.numberOfTrailingZeros(xor);
+            if (prevLeading >= 0 && leading >= prevLeading && trailing >= prevTrailing) {
+                // Meaningful bits fit in the previous window
+                writer.write(0b0, 1);
+                writer.write(xor >>> prevTrailing, 64 - prevLeading - prevTrailing);
+            } else {
+                var significant = 64 - leading - trailing;
+                writer.write(0b1, 1);
+                writer.write(leading, 5);
+                writer.write(significant - 1, 6);
+                writer.write(xor >>> trailing, significant);
+                prevLeading = leading;
+                prevTrailing = trailing;
+            }
+        }
+    }
+
+    private static double[] decodeDoubles(BitReader reader, int count) {
+        var column = new double[count];
+        if (count == 0) {
+            return column;
+        }
+        var prev = reader.read(64);
+        column[0] = Double.longBitsToDouble(prev);
+        var prevLeading = 0;
+        var prevTrailing = 0;
+        for (var i = 1; i < count; i++) {
+            if (reader.read(1) != 0) {
+                if (reader.read(1) != 0) {
+                    prevLeading = (int) reader.read(5);
+                    var significant = (int) reader.read(6) + 1;
+                    prevTrailing = 64 - prevLeading - significant;
+                }
+                var significant = 64 - prevLeading - prevTrailing;
+                prev ^= reader.read(significant) << prevTrailing;
+            }
+            column[i] = Double.longBitsToDouble(prev);
+        }
+        return column;
+    }
+
+    /**
+     * Append-only bit buffer
+     */
+    private static final class BitWriter {
+
+        private byte[] buffer;
+        private long bitLength;
+
+        BitWriter(int initialBytes) {
+            this.buffer = new byte[initialBytes];
+        }
+
+        void write(long value, int bits) {
+            for (var i = bits - 1; i >= 0; i--) {
+                var byteIndex = (int) (bitLength >>> 3);
+                if (byteIndex == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                if (((value >>> i) & 1) != 0) {
+                    buffer[byteIndex] |= (byte) (0x80 >>> (bitLength & 7));
+                }
+                bitLength++;
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, (int) ((bitLength + 7) >>> 3));
+        }
+    }
+
+    /**
+     * Sequential reader over a bit buffer written by {@link BitWriter}
+     */
+    private static final class BitReader {
+
+        private final byte[] buffer;
+        private long position;
+
+        BitReader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        long read(int bits) {
+            var value = 0L;
+            for (var i = 0; i < bits; i++) {
+                var bit = (buffer[(int) (position >>> 3)] >>> (7 - (position & 7))) & 1;
+                value = (value << 1) | bit;
+                position++;
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package ai.synalix.synalixai.listener;
+
+import ai.synalix.synalixai.dto.AuditLogMessage;
+import ai.synalix.synalixai.entity.AuditLog;
+import ai.synalix.synalixai.enums.AuditOperationType;
+import ai.synalix.synalixai.repository.AuditLogRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for AuditLogListener
+ */
+@ExtendWith(MockitoExtension.class)
+class AuditLogListenerTest {
+
+    private static final String DLQ = "audit-log-queue.dlq";
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private AuditLogListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new AuditLogListener(auditLogRepository, transactionTemplate, rabbitTemplate, objectMapper);
+        ReflectionTestUtils.setField(listener, "deadLetterQueueName", DLQ);
+        // Run transaction callbacks inline
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private Message message(UUID eventId) throws Exception {
+        var payload = new AuditLogMessage(AuditOperationType.USER_LOGIN, UUID.randomUUID(), "resource", Map.of());
+        payload.setEventId(eventId);
+        return new Message(objectMapper.writeValueAsBytes(payload), new MessageProperties());
+    }
+
+    private static boolean contains(List<AuditLog> auditLogs, UUID eventId) {
+        return auditLogs.stream().anyMatch(auditLog -> auditLog.getId().equals(eventId));
+    }
+
+    /**
+     * Should store a healthy batch with a single insert and dead-letter nothing
+     */
+    @Test
+    void handle_healthyBatch_insertsOnce() throws Exception {
+        listener.handleAuditLogMessages(List.of(message(UUID.randomUUID()), message(UUID.randomUUID())));
+
+        verify(auditLogRepository).insertIgnoringDuplicates(argThat(auditLogs -> auditLogs.size() == 2));
+        verify(rabbitTemplate, never()).send(anyString(), anyString(), any(Message.class));
+    }
+
+    /**
+     * Should dead-letter an unparseable message and a row the database rejects, and store the rest
+     */
+    @Test
+    void handle_poisonMessages_deadLettersOnlyThem() throws Exception {
+        var goodId = UUID.randomUUID();
+        var badId = UUID.randomUUID();
+        var garbage = new Message("not json".getBytes(StandardCharsets.UTF_8), new MessageProperties());
+        var bad = message(badId);
+        when(auditLogRepository.insertIgnoringDuplicates(anyList())).thenAnswer(invocation -> {
+            if (contains(invocation.getArgument(0), badId)) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            return 1;
+        });
+
+        listener.handleAuditLogMessages(List.of(garbage, message(goodId), bad));
+
+        verify(auditLogRepository).insertIgnoringDuplicates(argThat(auditLogs ->
+                auditLogs.size() == 1 && contains(auditLogs, goodId)));
+        verify(rabbitTemplate).send("", DLQ, garbage);
+        verify(rabbitTemplate).send("", DLQ, bad);
+        verify(rabbitTemplate, times(2)).send(anyString(), anyString(), any(Message.class));
+    }
+
+    /**
+     * Should rethrow a database outage so the batch is requeued instead of dead-lettered
+     */
+    @Test
+    void handle_databaseUnavailable_rethrowsWithoutDeadLettering() throws Exception {
+        var outage = new CannotCreateTransactionException("Could not open JPA EntityManager");
+        when(auditLogRepository.insertIgnoringDuplicates(anyList())).thenThrow(outage);
+
+        var thrown = assertThrows(CannotCreateTransactionException.class, () ->
+                listener.handleAuditLogMessages(List.of(message(UUID.randomUUID()), message(UUID.randomUUID()))));
+
+        assertSame(outage, thrown);
+        verify(auditLogRepository, times(1)).insertIgnoringDuplicates(anyList());
+        verify(rabbitTemplate, never()).send(anyString(), anyString(), any(Message.class));
+    }
+
+    /**
+     * Should rethrow when the database goes away while rows are retried one by one
+     */
+    @Test
+    void handle_outageDuringIndividualRetry_rethrows() throws Exception {
+        when(auditLogRepository.insertIgnoringDuplicates(anyList()))
+                .thenThrow(new DataIntegrityViolationException("value too long"))
+                .thenThrow(new DataAccessResourceFailureException("connection reset"));
+
+        assertThrows(DataAccessResourceFailureException.class, () ->
+                listener.handleAuditLogMessages(List.of(message(UUID.randomUUID()), message(UUID.randomUUID()))));
+
+        verify(rabbitTemplate, never()).send(eq(""), eq(DLQ), any(Message.class));
+    }
+
+    /**
+     * Should treat connection SQLStates as transient and integrity violations as the row's fault
+     */
+    @Test
+    void isTransient_classifiesByCause() {
+        var connectionLost = new RuntimeException("wrapped", new SQLException("I/O error", "08006"));
+        var uniqueViolation = new RuntimeException("wrapped", new SQLException("duplicate key", "23505"));
+
+        assertTrue(AuditLogListener.isTransient(connectionLost));
+        assertFalse(AuditLogListener.isTransient(uniqueViolation));
+        assertFalse(AuditLogListener.isTransient(new DataIntegrityViolationException("value too long")));
+    }
+}
@@ -0,0 +1,81 @@
+package ai.synalix.synalixai.service;
+
+import ai.synalix.synalixai.config.JwtUserPrincipal;
+import ai.synalix.synalixai.enums.UserRole;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Unit tests for AuthTokenCache
+ */
+class AuthTokenCacheTest {
+
+    private static final long HOUR_MS = 3_600_000;
+
+    private final AuthTokenCache cache = new AuthTokenCache(100, HOUR_MS);
+
+    private static JwtUserPrincipal principal(UUID userId) {
+        return new JwtUserPrincipal(userId, "alice", UserRole.USER, "ENABLED");
+    }
+
+    /**
+     * Should serve a cached principal until its user is invalidated
+     */
+    @Test
+    void invalidateUser_evictsCachedTokens() {
+        var userId = UUID.randomUUID();
+        var principal = principal(userId);
+        var key = cache.key("token");
+        cache.put(key, principal, System.currentTimeMillis() + HOUR_MS, cache.generation(userId));
+        assertSame(principal, cache.get(key));
+
+        cache.invalidateUser(userId);
+
+        assertNull(cache.get(key));
+    }
+
+    /**
+     * Should ignore a put from a request that loaded the user before the invalidation
+     */
+    @Test
+    void put_afterInvalidationWithOldGeneration_isIgnored() {
+        var userId = UUID.randomUUID();
+        var key = cache.key("token");
+
+        // The request reads the generation and loads the user; the update commits before the request caches it
+        var generation = cache.generation(userId);
+        cache.invalidateUser(userId);
+        cache.put(key, principal(userId), System.currentTimeMillis() + HOUR_MS, generation);
+
+        assertNull(cache.get(key));
+    }
+
+    /**
+     * Should drop entries once the token has expired
+     */
+    @Test
+    void get_expiredToken_returnsNull() {
+        var userId = UUID.randomUUID();
+        var key = cache.key("token");
+        cache.put(key, principal(userId), System.currentTimeMillis() - 1, cache.generation(userId));
+
+        assertNull(cache.get(key));
+    }
+
+    /**
+     * Should drop entries once the maximum age is reached, even if the token is still valid
+     */
+    @Test
+    void get_entryOlderThanMaxAge_returnsNull() {
+        var shortLived = new AuthTokenCache(100, 0);
+        var userId = UUID.randomUUID();
+        var key = shortLived.key("token");
+        shortLived.put(key, principal(userId), System.currentTimeMillis() + HOUR_MS, shortLived.generation(userId));
+
+        assertNull(shortLived.get(key));
+    }
+}
@@ -0,0 +1,145 @@
+package ai.synalix.synalixai.service;
+
+import ai.synalix.synalixai.exception.ApiException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for BackendCircuitBreaker
+ */
+class BackendCircuitBreakerTest {
+
+    private static final String CIRCUIT = BackendCircuitBreaker.GPU_STATUS;
+    private static final String KEY = "all";
+
+    /**
+     * Runs probes on the calling thread so their outcome is visible right after the read
+     */
+    private static BackendCircuitBreaker breaker(int failureThreshold, long openMs) {
+        return new BackendCircuitBreaker(Runnable::run, failureThreshold, openMs, 100);
+    }
+
+    private static Supplier<String> timingOut(AtomicInteger calls) {
+        return () -> {
+            calls.incrementAndGet();
+            throw new ResourceAccessException("Read timed out", new SocketTimeoutException("Read timed out"));
+        };
+    }
+
+    /**
+     * Should open after the threshold of timeouts and answer from the cache without calling the backend
+     */
+    @Test
+    void read_opensAfterConsecutiveTimeoutsAndServesStaleCache() {
+        var breaker = breaker(2, 60_000);
+        assertFalse(breaker.read(CIRCUIT, KEY, () -> "fresh").stale());
+
+        var calls = new AtomicInteger();
+        assertTrue(breaker.read(CIRCUIT, KEY, timingOut(calls)).stale());
+        assertFalse(breaker.isOpen(CIRCUIT));
+        assertTrue(breaker.read(CIRCUIT, KEY, timingOut(calls)).stale());
+        assertTrue(breaker.isOpen(CIRCUIT));
+
+        var result = breaker.read(CIRCUIT, KEY, timingOut(calls));
+        assertEquals(2, calls.get());
+        assertEquals("fresh", result.value());
+        assertTrue(result.stale());
+    }
+
+    /**
+     * Should fail with BACKEND_UNAVAILABLE while open if nothing was ever cached for the key
+     */
+    @Test
+    void read_throwsWhenOpenWithoutCachedValue() {
+        var breaker = breaker(1, 60_000);
+        var calls = new AtomicInteger();
+        assertThrows(ApiException.class, () -> breaker.read(CIRCUIT, KEY, timingOut(calls)));
+        assertTrue(breaker.isOpen(CIRCUIT));
+        assertThrows(ApiException.class, () -> breaker.read(CIRCUIT, KEY, () -> "fresh"));
+    }
+
+    /**
+     * Should probe once the open period has elapsed; a failed probe keeps it open, a successful one closes it
+     */
+    @Test
+    void read_probeClosesCircuitOnSuccess() {
+        var breaker = breaker(1, 0);
+        breaker.read(CIRCUIT, KEY, () -> "first");
+        var calls = new AtomicInteger();
+        breaker.read(CIRCUIT, KEY, timingOut(calls));
+        assertTrue(breaker.isOpen(CIRCUIT));
+
+        breaker.read(CIRCUIT, KEY, timingOut(calls));
+        assertEquals(2, calls.get());
+        assertTrue(breaker.isOpen(CIRCUIT));
+
+        // The probe ran on this thread and refreshed the cache, but the read itself is still a cached answer
+        var probed = breaker.read(CIRCUIT, KEY, () -> "second");
+        assertEquals("second", probed.value());
+        assertTrue(probed.stale());
+        assertFalse(breaker.isOpen(CIRCUIT));
+
+        var result = breaker.read(CIRCUIT, KEY, () -> "third");
+        assertEquals("third", result.value());
+        assertFalse(result.stale());
+    }
+
+    /**
+     * Should pass 4xx responses through without opening the circuit
+     */
+    @Test
+    void read_passesClientErrorsThroughWithoutOpening() {
+        var breaker = breaker(1, 60_000);
+        breaker.read(CIRCUIT, KEY, () -> "fresh");
+        for (var i = 0; i < 3; i++) {
+            assertThrows(HttpClientErrorException.class, () -> breaker.read(CIRCUIT, KEY, () -> {
+                throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+            }));
+        }
+        assertFalse(breaker.isOpen(CIRCUIT));
+    }
+
+    /**
+     * Should fall back to the cache on 5xx responses without counting them towards opening
+     */
+    @Test
+    void read_doesNotCountServerErrors() {
+        var breaker = breaker(1, 60_000);
+        breaker.read(CIRCUIT, KEY, () -> "fresh");
+        for (var i = 0; i < 3; i++) {
+            var result = breaker.read(CIRCUIT, KEY, () -> {
+                throw new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR);
+            });
+            assertTrue(result.stale());
+        }
+        assertFalse(breaker.isOpen(CIRCUIT));
+    }
+
+    /**
+     * Should keep circuits independent, so a failing call type does not cut off the others
+     */
+    @Test
+    void read_opensOnlyTheFailingCircuit() {
+        var breaker = breaker(1, 60_000);
+        var calls = new AtomicInteger();
+        assertThrows(ApiException.class, () -> breaker.read(CIRCUIT, KEY, timingOut(calls)));
+        assertTrue(breaker.isOpen(CIRCUIT));
+
+        var result = breaker.read(BackendCircuitBreaker.TASK_STATUS, "task-1", () -> "running");
+        assertEquals("running", result.value());
+        assertFalse(result.stale());
+        assertFalse(breaker.isOpen(BackendCircuitBreaker.TASK_STATUS));
+    }
+}
@@ -0,0 +1,69 @@
+package ai.synalix.synalixai.service;
+
+import ai.synalix.synalixai.repository.UserGpuPermissionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for GpuPermissionIndex
+ */
+@ExtendWith(MockitoExtension.class)
+class GpuPermissionIndexTest {
+
+    @Mock
+    private UserGpuPermissionRepository userGpuPermissionRepository;
+
+    @InjectMocks
+    private GpuPermissionIndex gpuPermissionIndex;
+
+    /**
+     * Should apply a patch made outside a transaction to the loaded index right away
+     */
+    @Test
+    void replace_outsideTransaction_patchesLoadedIndex() {
+        var userId = UUID.randomUUID();
+        when(userGpuPermissionRepository.findAllUserGpuPairs())
+                .thenReturn(List.<Object[]>of(new Object[]{userId, 1L}));
+        assertTrue(gpuPermissionIndex.isPermitted(userId, 1));
+
+        gpuPermissionIndex.replace(userId, List.of(2L, 3L));
+
+        assertFalse(gpuPermissionIndex.isPermitted(userId, 1));
+        assertEquals(List.of(2L, 3L), gpuPermissionIndex.allowedGpuIds(userId));
+    }
+
+    /**
+     * Should not let a reload that read the database before a grant committed overwrite the grant's patch
+     */
+    @Test
+    void reload_patchAppliedDuringLoad_isNotOverwritten() {
+        var userId = UUID.randomUUID();
+        var beforeGrant = List.<Object[]>of(new Object[]{userId, 1L});
+        var afterGrant = List.of(new Object[]{userId, 1L}, new Object[]{userId, 2L});
+        when(userGpuPermissionRepository.findAllUserGpuPairs()).thenReturn(beforeGrant);
+        assertFalse(gpuPermissionIndex.isPermitted(userId, 2));
+
+        // The reload reads the old rows; the grant commits and patches the index before the reload publishes
+        when(userGpuPermissionRepository.findAllUserGpuPairs())
+                .thenAnswer(invocation -> {
+                    gpuPermissionIndex.replace(userId, List.of(1L, 2L));
+                    return beforeGrant;
+                })
+                .thenReturn(afterGrant);
+        gpuPermissionIndex.reload();
+
+        assertTrue(gpuPermissionIndex.isPermitted(userId, 1));
+        assertTrue(gpuPermissionIndex.isPermitted(userId, 2));
+    }
+}
@@ -42,6 +42,9 @@ class MessageServiceTest {
     @Mock
     private AuditService auditService;
 
+    @Mock
+    private EventHubService eventHubService;
+
     @InjectMocks
     private MessageService messageService;
 
@@ -0,0 +1,94 @@
+package ai.synalix.synalixai.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for MappedSpool
+ */
+class MappedSpoolTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Should replay records across segment rollovers in append order and delete accepted segments
+     */
+    @Test
+    void replay_returnsRecordsInOrderAcrossSegments() throws Exception {
+        var spool = new MappedSpool(directory, 64);
+        for (var i = 0; i < 10; i++) {
+            spool.append(("record-" + i).getBytes(StandardCharsets.UTF_8));
+        }
+        assertFalse(spool.isEmpty());
+
+        var replayed = replayAll(spool);
+
+        assertEquals(10, replayed.size());
+        assertEquals("record-0", replayed.get(0));
+        assertEquals("record-9", replayed.get(9));
+        assertTrue(spool.isEmpty());
+    }
+
+    /**
+     * Should keep a rejected segment and the ones after it for the next replay
+     */
+    @Test
+    void replay_keepsRejectedSegments() throws Exception {
+        var spool = new MappedSpool(directory, 64);
+        for (var i = 0; i < 6; i++) {
+            spool.append(("record-" + i).getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertEquals(0, spool.replay(records -> false));
+
+        assertEquals(6, replayAll(spool).size());
+    }
+
+    /**
+     * Should recover the active segment of a previous run and stop at a corrupted record
+     */
+    @Test
+    void constructor_recoversActiveSegmentAndStopsAtCorruptRecord() throws Exception {
+        var spool = new MappedSpool(directory, 1024);
+        spool.append("first".getBytes(StandardCharsets.UTF_8));
+        spool.append("second".getBytes(StandardCharsets.UTF_8));
+        spool.flush();
+
+        // Flip a payload byte of the second record: header (8) + "first" (5) + header (8)
+        Path segment;
+        try (var files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        try (var channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{'X'}), 21);
+        }
+
+        var reopened = new MappedSpool(directory, 1024);
+
+        assertEquals(List.of("first"), replayAll(reopened));
+        assertTrue(reopened.isEmpty());
+    }
+
+    private static List<String> replayAll(MappedSpool spool) throws Exception {
+        List<String> replayed = new ArrayList<>();
+        spool.replay(records -> {
+            records.forEach(record -> replayed.add(new String(record, StandardCharsets.UTF_8)));
+            return true;
+        });
+        return replayed;
+    }
+}
@@ -0,0 +1,81 @@
+package ai.synalix.synalixai.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for MpscRingBuffer
+ */
+class MpscRingBufferTest {
+
+    /**
+     * Should reject offers once full and accept again after a drain frees slots
+     */
+    @Test
+    void offer_failsWhenFullUntilDrained() {
+        var ring = new MpscRingBuffer<Integer>(3);
+        assertEquals(4, ring.capacity());
+        for (var i = 0; i < 4; i++) {
+            assertTrue(ring.offer(i));
+        }
+        assertFalse(ring.offer(4));
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(2, ring.drain(drained::add, 2));
+        assertTrue(ring.offer(4));
+        assertTrue(ring.offer(5));
+        assertEquals(4, ring.drain(drained::add, 10));
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), drained);
+        assertEquals(0, ring.size());
+    }
+
+    /**
+     * Should deliver every element offered by concurrent producers exactly once
+     */
+    @Test
+    void drain_receivesAllElementsFromConcurrentProducers() throws InterruptedException {
+        var ring = new MpscRingBuffer<Integer>(1024);
+        var producers = 4;
+        var perProducer = 10_000;
+        var start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (var p = 0; p < producers; p++) {
+            var base = p * perProducer;
+            var thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (var i = 0; i < perProducer; i++) {
+                    while (!ring.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        var received = new HashSet<Integer>();
+        start.countDown();
+        while (received.size() < producers * perProducer) {
+            ring.drain(received::add, 256);
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(producers * perProducer, received.size());
+        assertEquals(0, ring.size());
+    }
+}
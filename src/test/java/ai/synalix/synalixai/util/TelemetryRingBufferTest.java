@@ -0,0 +1,47 @@
+package ai.synalix.synalixai.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for TelemetryRingBuffer
+ */
+class TelemetryRingBufferTest {
+
+    /**
+     * Should keep only the newest samples once full and return them oldest first
+     */
+    @Test
+    void add_overwritesOldestWhenFull() {
+        var ring = new TelemetryRingBuffer(4);
+        for (var i = 0; i < 6; i++) {
+            ring.add(1000L * i, i * 10, i * 100, i);
+        }
+
+        var samples = ring.range(Long.MIN_VALUE, Long.MAX_VALUE);
+
+        assertEquals(4, ring.size());
+        assertEquals(2000L, ring.oldestTimestamp());
+        assertArrayEquals(new long[]{2000, 3000, 4000, 5000}, samples.timestamps());
+        assertArrayEquals(new int[]{20, 30, 40, 50}, samples.utilization());
+        assertArrayEquals(new int[]{200, 300, 400, 500}, samples.temperature());
+        assertArrayEquals(new int[]{2, 3, 4, 5}, samples.memoryUsed());
+    }
+
+    /**
+     * Should return samples with from <= timestamp < to across the wrap point
+     */
+    @Test
+    void range_isHalfOpenAcrossWrap() {
+        var ring = new TelemetryRingBuffer(5);
+        for (var i = 0; i < 8; i++) {
+            ring.add(1000L * i, i, i, i);
+        }
+
+        assertArrayEquals(new long[]{4000, 5000, 6000}, ring.range(4000, 7000).timestamps());
+        assertArrayEquals(new long[]{3000}, ring.range(0, 3500).timestamps());
+        assertEquals(0, ring.range(8000, 9000).size());
+    }
+}
@@ -0,0 +1,83 @@
+package ai.synalix.synalixai.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for TimeSeriesCodec and Lttb
+ */
+class TimeSeriesCodecTest {
+
+    /**
+     * Should round-trip irregular steps, timestamps and special double values exactly
+     */
+    @Test
+    void encodeDecode_roundTripsAllColumns() {
+        var count = 2000;
+        var steps = new long[count];
+        var timestamps = new long[count];
+        var values = new double[count];
+        var time = 1_700_000_000_000L;
+        for (var i = 0; i < count; i++) {
+            steps[i] = i * 10L + (i % 7 == 0 ? 3 : 0);
+            time += 1000 + (i % 5) * 13 - (i % 3) * 40;
+            timestamps[i] = time;
+            values[i] = i % 3 == 0 ? 0.5 : Math.exp(-i / 500.0);
+        }
+        values[5] = Double.NaN;
+        values[6] = -0.0;
+        values[7] = Double.MAX_VALUE;
+
+        var columns = TimeSeriesCodec.decode(TimeSeriesCodec.encode(steps, timestamps, values, count));
+
+        assertArrayEquals(steps, columns.steps());
+        assertArrayEquals(timestamps, columns.timestamps());
+        assertArrayEquals(values, columns.values());
+    }
+
+    /**
+     * Should encode a regular series in far less than the raw 24 bytes per point
+     */
+    @Test
+    void encode_regularSeries_isCompact() {
+        var count = 1024;
+        var steps = new long[count];
+        var timestamps = new long[count];
+        var values = new double[count];
+        for (var i = 0; i < count; i++) {
+            steps[i] = i;
+            timestamps[i] = 1_700_000_000_000L + i * 1000L;
+            values[i] = 0.25;
+        }
+
+        var encoded = TimeSeriesCodec.encode(steps, timestamps, values, count);
+
+        assertTrue(encoded.length < count, "expected under one byte per point, got " + encoded.length);
+    }
+
+    /**
+     * Should keep endpoints and return exactly the requested number of ascending indices
+     */
+    @Test
+    void downsample_keepsEndpointsAndOrder() {
+        var count = 10_000;
+        var x = new long[count];
+        var y = new double[count];
+        for (var i = 0; i < count; i++) {
+            x[i] = i;
+            y[i] = Math.sin(i / 100.0);
+        }
+
+        var indices = Lttb.downsample(x, y, count, 100);
+
+        assertEquals(100, indices.length);
+        assertEquals(0, indices[0]);
+        assertEquals(count - 1, indices[99]);
+        for (var i = 1; i < indices.length; i++) {
+            assertTrue(indices[i] > indices[i - 1]);
+        }
+    }
+}